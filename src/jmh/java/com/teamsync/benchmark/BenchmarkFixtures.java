@@ -0,0 +1,93 @@
+package com.teamsync.benchmark;
+
+import com.teamsync.config.JwtFilter;
+import com.teamsync.config.JwtUtil;
+import com.teamsync.entity.Project;
+import com.teamsync.entity.Task;
+import com.teamsync.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Detached entities and hand-wired components shared by the benchmarks (no Spring context, no database)
+final class BenchmarkFixtures {
+
+    static final String JWT_SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-0123456789";
+
+    private BenchmarkFixtures() {
+    }
+
+    static User user(int n) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setEmail("user" + n + "@teamsync.test");
+        user.setPassword("$2a$10$abcdefghijklmnopqrstuv");
+        user.setFirstName("First" + n);
+        user.setLastName("Last" + n);
+        user.setCreatedAt(LocalDateTime.now());
+        return user;
+    }
+
+    static Project project(int memberCount) {
+        Project project = new Project();
+        project.setId(UUID.randomUUID());
+        project.setName("Benchmark project");
+        project.setDescription("Project used by the mapping benchmarks");
+        project.setAdmin(user(0));
+        project.setCreatedAt(LocalDateTime.now());
+        for (int i = 1; i <= memberCount; i++) {
+            project.getMembers().add(user(i));
+        }
+        return project;
+    }
+
+    static Task task(int n, Project project, User assignee, User assigner) {
+        Task task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setTitle("Task " + n);
+        task.setDescription("Description for benchmark task " + n);
+        task.setStatus(Task.Status.values()[n % Task.Status.values().length]);
+        task.setDueDate(LocalDateTime.now().plusDays(n % 30));
+        task.setCreatedAt(LocalDateTime.now().minusDays(1));
+        task.setUpdatedAt(LocalDateTime.now());
+        task.setProject(project);
+        task.setAssignee(assignee);
+        task.setAssigner(assigner);
+        return task;
+    }
+
+    static List<Task> tasks(int count) {
+        Project project = project(2);
+        User assignee = project.getMembers().get(0);
+        User assigner = project.getAdmin();
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(task(i, project, assignee, assigner));
+        }
+        return tasks;
+    }
+
+    static JwtUtil jwtUtil(long cacheMaxSize) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", JWT_SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "kid", "default");
+        ReflectionTestUtils.setField(jwtUtil, "keysFile", "");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 3600L);
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaxSize", cacheMaxSize);
+        ReflectionTestUtils.setField(jwtUtil, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+        return jwtUtil;
+    }
+
+    static JwtFilter jwtFilter(JwtUtil jwtUtil) {
+        JwtFilter jwtFilter = new JwtFilter();
+        ReflectionTestUtils.setField(jwtFilter, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(jwtFilter, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.invokeMethod(jwtFilter, "initMetrics");
+        return jwtFilter;
+    }
+}
@@ -0,0 +1,57 @@
+package com.teamsync.benchmark;
+
+import com.teamsync.config.JwtPrincipal;
+import com.teamsync.config.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Token issue on login and verification on every authenticated request
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtil cachingJwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private UUID userId;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachingJwtUtil = BenchmarkFixtures.jwtUtil(10_000);
+        // A zero-size cache disables caching, so every parse does the full signature check
+        uncachedJwtUtil = BenchmarkFixtures.jwtUtil(0);
+        userId = UUID.randomUUID();
+        token = cachingJwtUtil.generateToken(userId, "user@teamsync.test");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachingJwtUtil.generateToken(userId, "user@teamsync.test");
+    }
+
+    @Benchmark
+    public Optional<JwtPrincipal> parseTokenCached() {
+        return cachingJwtUtil.parseToken(token);
+    }
+
+    @Benchmark
+    public Optional<JwtPrincipal> parseTokenUncached() {
+        return uncachedJwtUtil.parseToken(token);
+    }
+}
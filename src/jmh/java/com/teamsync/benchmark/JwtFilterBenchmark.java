@@ -0,0 +1,82 @@
+package com.teamsync.benchmark;
+
+import com.teamsync.config.JwtFilter;
+import com.teamsync.config.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Everything JwtFilter does for one request: header parsing, token verification (cached or not), the
+// verify timer, the userId attribute and the security context. The principal comes from the token claims,
+// so there is no user lookup on this path; the user loads further down hit the second-level cache.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private JwtFilter cachingFilter;
+    private JwtFilter uncachedFilter;
+    private String validHeader;
+    private String forgedHeader;
+
+    @Setup
+    public void setUp() {
+        JwtUtil cachingJwtUtil = BenchmarkFixtures.jwtUtil(10_000);
+        cachingFilter = BenchmarkFixtures.jwtFilter(cachingJwtUtil);
+        uncachedFilter = BenchmarkFixtures.jwtFilter(BenchmarkFixtures.jwtUtil(0));
+        String token = cachingJwtUtil.generateToken(UUID.randomUUID(), "user@teamsync.test");
+        validHeader = "Bearer " + token;
+        // Same claims, broken signature: never cached, so every request pays the full check
+        forgedHeader = "Bearer " + token.substring(0, token.length() - 4) + "AAAA";
+    }
+
+    @Benchmark
+    public Object validTokenCached() throws Exception {
+        return filter(cachingFilter, validHeader);
+    }
+
+    @Benchmark
+    public Object validTokenUncached() throws Exception {
+        return filter(uncachedFilter, validHeader);
+    }
+
+    @Benchmark
+    public Object forgedToken() throws Exception {
+        return filter(cachingFilter, forgedHeader);
+    }
+
+    @Benchmark
+    public Object noToken() throws Exception {
+        return filter(cachingFilter, null);
+    }
+
+    private static Object filter(JwtFilter filter, String authorization) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return request.getAttribute("userId");
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
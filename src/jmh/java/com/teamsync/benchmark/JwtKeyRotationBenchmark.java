@@ -0,0 +1,67 @@
+package com.teamsync.benchmark;
+
+import com.teamsync.config.JwtPrincipal;
+import com.teamsync.config.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Sign and verify throughput with several kid-tagged keys loaded; verification bypasses the token cache
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class JwtKeyRotationBenchmark {
+
+    @Param({"1", "4", "16"})
+    private int keyCount;
+
+    private JwtUtil jwtUtil;
+    private String[] tokens;
+    private UUID userId;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = BenchmarkFixtures.jwtUtil(0);
+        userId = UUID.randomUUID();
+        Map<String, String> secrets = new LinkedHashMap<>();
+        for (int i = 0; i < keyCount; i++) {
+            secrets.put("k" + i, BenchmarkFixtures.JWT_SECRET + "-" + i);
+        }
+        // One token per key, so verification exercises every kid lookup
+        tokens = new String[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            jwtUtil.rotateKeys(secrets, "k" + i);
+            tokens[i] = jwtUtil.generateToken(userId, "user@teamsync.test");
+        }
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtUtil.generateToken(userId, "user@teamsync.test");
+    }
+
+    @Benchmark
+    public Optional<JwtPrincipal> verify() {
+        return jwtUtil.parseToken(tokens[ThreadLocalRandom.current().nextInt(tokens.length)]);
+    }
+}
@@ -0,0 +1,118 @@
+package com.teamsync.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// What a request thread pays per log call: formatting and writing inline (sync) versus handing the event to
+// the AsyncAppender from logback-spring.xml. The sink is a file so the output stays out of the JMH report.
+// "async" is the shipped configuration, which drops INFO once the queue is 80% full; "async-lossless" keeps
+// every event and blocks the caller when the queue is full, so it shows the cost once the writer is the limit.
+// Sampled rather than averaged: the point is the latency a caller sees, and the writer thread's work only
+// shows up in the average when it shares the caller's core.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingBenchmark {
+
+    @Param({"sync", "async", "async-lossless"})
+    private String appender;
+
+    private LoggerContext context;
+    private Logger logger;
+    private File logFile;
+    private UUID taskId;
+    private UUID userId;
+
+    @Setup
+    public void setUp() throws IOException {
+        logFile = File.createTempFile("logging-benchmark", ".log");
+        context = new LoggerContext();
+        context.start();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        // Spring Boot's console layout without the color and PID converters
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%15.15t] %-40.40logger{39} : %m%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setFile(logFile.getAbsolutePath());
+        file.setAppend(false);
+        file.setEncoder(encoder);
+        file.start();
+
+        logger = context.getLogger(LoggingBenchmark.class);
+        logger.setLevel(Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(switch (appender) {
+            case "sync" -> file;
+            case "async" -> async(file, true);
+            case "async-lossless" -> async(file, false);
+            default -> throw new IllegalArgumentException("Unknown appender " + appender);
+        });
+
+        taskId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(logFile.toPath());
+    }
+
+    // A typical write-path line
+    @Benchmark
+    public void info() {
+        logger.info("Patching task with ID: {} by user ID: {}", taskId, userId);
+    }
+
+    // Read-path lines are DEBUG; with parameterized messages a disabled level costs only the level check
+    @Benchmark
+    public void debugDisabled() {
+        logger.debug("Fetching task with ID: {} by user ID: {}", taskId, userId);
+    }
+
+    // Same settings as ASYNC_CONSOLE; the lossless variant neither discards nor skips a full queue
+    private AsyncAppender async(Appender<ILoggingEvent> delegate, boolean neverBlock) {
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setQueueSize(8192);
+        if (!neverBlock) {
+            async.setDiscardingThreshold(0);
+        }
+        async.setNeverBlock(neverBlock);
+        async.setIncludeCallerData(false);
+        async.addAppender(delegate);
+        async.start();
+        return async;
+    }
+}
@@ -0,0 +1,56 @@
+package com.teamsync.benchmark;
+
+import com.teamsync.dto.ProjectResponseDTO;
+import com.teamsync.dto.TaskDTO;
+import com.teamsync.entity.Project;
+import com.teamsync.entity.Task;
+import com.teamsync.mapper.ProjectMapper;
+import com.teamsync.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Entity-to-DTO mapping on the task and project read paths
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"10", "100"})
+    private int memberCount;
+
+    private TaskService taskService;
+    private Task task;
+    private Project project;
+
+    @Setup
+    public void setUp() {
+        // convertToDTO only reads the entity graph, so none of the collaborators are needed
+        taskService = new TaskService(null, null, null, null, null, null, null, null);
+        project = BenchmarkFixtures.project(memberCount);
+        task = BenchmarkFixtures.task(1, project, project.getMembers().get(0), project.getAdmin());
+    }
+
+    @Benchmark
+    public TaskDTO convertTaskToDTO() {
+        return taskService.convertToDTO(task, task.getAssigner());
+    }
+
+    @Benchmark
+    public ProjectResponseDTO mapProjectToResponseDTO() {
+        return ProjectMapper.toResponseDTO(project);
+    }
+}
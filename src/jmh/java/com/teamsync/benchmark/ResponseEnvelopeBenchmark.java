@@ -0,0 +1,139 @@
+package com.teamsync.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamsync.config.GlobalResponseHandler;
+import com.teamsync.config.WebConfig;
+import com.teamsync.controller.TaskController;
+import com.teamsync.controller.UserController;
+import com.teamsync.dto.ApiResponse;
+import com.teamsync.dto.PaginatedResponse;
+import com.teamsync.dto.TaskDTO;
+import com.teamsync.entity.Task;
+import com.teamsync.mapper.UserMapper;
+import com.teamsync.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// Write side of the list endpoints as Spring MVC runs it: response advice, then the Jackson converter.
+// Run with the gc profiler (on by default in the benchmarks profile) and read gc.alloc.rate.norm for bytes per request.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseEnvelopeBenchmark {
+
+    // users: GET /api/users, a raw PaginatedResponse the advice wraps
+    // tasks: GET /api/projects/{projectId}/tasks/users/{userId}, already an ApiResponse
+    @Param({"users", "tasks"})
+    private String endpoint;
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private final GlobalResponseHandler advice = new GlobalResponseHandler();
+    private MappingJackson2HttpMessageConverter converter;
+    private Class<? extends HttpMessageConverter<?>> converterType;
+    private MethodParameter returnType;
+    private Object body;
+    private ServerHttpRequest request;
+    private ServerHttpResponse response;
+    private BufferedOutputMessage outputMessage;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() throws NoSuchMethodException {
+        ObjectMapper objectMapper = new WebConfig().objectMapper(true);
+        converter = new MappingJackson2HttpMessageConverter(objectMapper);
+        converterType = (Class<? extends HttpMessageConverter<?>>) (Class<?>) converter.getClass();
+        if ("users".equals(endpoint)) {
+            returnType = new MethodParameter(handlerMethod(UserController.class, "getAllUsers"), -1);
+            body = new PaginatedResponse<>(IntStream.range(0, pageSize)
+                    .mapToObj(i -> UserMapper.toResponseDTO(BenchmarkFixtures.user(i)))
+                    .collect(Collectors.toList()), 1000L, 0, 1000 / pageSize, true);
+        } else {
+            returnType = new MethodParameter(handlerMethod(TaskController.class, "getTasksByUserId"), -1);
+            TaskService taskService = new TaskService(null, null, null, null, null, null, null, null);
+            List<TaskDTO> items = BenchmarkFixtures.tasks(pageSize).stream()
+                    .map((Task task) -> taskService.convertToDTO(task, task.getAssigner()))
+                    .collect(Collectors.toList());
+            body = ApiResponse.success("Tasks retrieved successfully",
+                    new PaginatedResponse<>(items, 1000L, 0, 1000 / pageSize, true));
+        }
+        request = new ServletServerHttpRequest(new MockHttpServletRequest("GET", "/api/" + endpoint));
+        response = new ServletServerHttpResponse(new MockHttpServletResponse());
+        outputMessage = new BufferedOutputMessage();
+    }
+
+    private static Method handlerMethod(Class<?> controller, String name) throws NoSuchMethodException {
+        for (Method method : controller.getMethods()) {
+            if (method.getName().equals(name)) {
+                return method;
+            }
+        }
+        throw new NoSuchMethodException(controller.getSimpleName() + "." + name);
+    }
+
+    @Benchmark
+    public int writeListResponse() throws IOException {
+        Object value = body;
+        if (advice.supports(returnType, converterType)) {
+            value = advice.beforeBodyWrite(value, returnType, MediaType.APPLICATION_JSON, converterType, request, response);
+        }
+        outputMessage.reset();
+        converter.write(value, MediaType.APPLICATION_JSON, outputMessage);
+        return outputMessage.body.size();
+    }
+
+    // Stands in for the servlet response buffer: reused across invocations so only the write path allocates
+    private static final class BufferedOutputMessage implements HttpOutputMessage {
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(64 * 1024);
+        private final HttpHeaders headers = new HttpHeaders();
+
+        void reset() {
+            body.reset();
+            headers.clear();
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
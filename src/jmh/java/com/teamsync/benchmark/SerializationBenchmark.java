@@ -0,0 +1,62 @@
+package com.teamsync.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamsync.config.WebConfig;
+import com.teamsync.dto.ApiResponse;
+import com.teamsync.dto.PaginatedResponse;
+import com.teamsync.dto.TaskDTO;
+import com.teamsync.entity.Task;
+import com.teamsync.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Response body of GET /api/projects/{projectId}/tasks/users/{userId} with the application ObjectMapper,
+// with the optimized serializers (teamsync.json.optimized-serializers=true, the default) and with stock Jackson.
+// The benchmarks profile runs the gc profiler, so gc.alloc.rate.norm gives bytes per serialized page.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    @Param({"optimized", "standard"})
+    private String serializers;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<PaginatedResponse<TaskDTO>> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new WebConfig().objectMapper("optimized".equals(serializers));
+        TaskService taskService = new TaskService(null, null, null, null, null, null, null, null);
+        List<TaskDTO> items = BenchmarkFixtures.tasks(pageSize).stream()
+                .map((Task task) -> taskService.convertToDTO(task, task.getAssigner()))
+                .collect(Collectors.toList());
+        response = ApiResponse.success("Tasks retrieved successfully",
+                new PaginatedResponse<>(items, 1000L, 0, 1000 / pageSize, true));
+    }
+
+    @Benchmark
+    public byte[] serializeTaskPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
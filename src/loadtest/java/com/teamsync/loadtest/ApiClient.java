@@ -0,0 +1,102 @@
+package com.teamsync.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+// Thin JSON client for the REST API; X-Query-Count comes from the query-debug profile
+final class ApiClient {
+
+    static final class Response {
+        final int status;
+        final JsonNode body;
+        final int queryCount;
+
+        Response(int status, JsonNode body, int queryCount) {
+            this.status = status;
+            this.body = body;
+            this.queryCount = queryCount;
+        }
+
+        boolean isOk() {
+            return status >= 200 && status < 300;
+        }
+
+        JsonNode data() {
+            return body != null ? body.path("data") : null;
+        }
+    }
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+
+    ApiClient(String baseUrl, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    Response get(String path, String token) throws IOException, InterruptedException {
+        return send(builder(path, token).GET());
+    }
+
+    Response post(String path, String token, Object body) throws IOException, InterruptedException {
+        return send(builder(path, token).POST(bodyOf(body)));
+    }
+
+    Response patch(String path, String token, Object body) throws IOException, InterruptedException {
+        return send(builder(path, token).method("PATCH", bodyOf(body)));
+    }
+
+    // Seeding requires every call to succeed
+    Response expectOk(Response response, String what) {
+        if (!response.isOk()) {
+            throw new IllegalStateException(what + " failed with HTTP " + response.status + ": " + response.body);
+        }
+        return response;
+    }
+
+    private HttpRequest.Builder builder(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json")
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpRequest.BodyPublisher bodyOf(Object body) throws JsonProcessingException {
+        return body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+    }
+
+    private Response send(HttpRequest.Builder builder) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        JsonNode body = response.body().length > 0 ? readBody(response.body()) : null;
+        int queries = response.headers().firstValue("X-Query-Count").map(Integer::parseInt).orElse(-1);
+        return new Response(response.statusCode(), body, queries);
+    }
+
+    private JsonNode readBody(byte[] bytes) {
+        try {
+            return objectMapper.readTree(bytes);
+        } catch (IOException e) {
+            // Non-JSON error pages still count as responses
+            return null;
+        }
+    }
+}
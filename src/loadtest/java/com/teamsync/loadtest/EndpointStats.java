@@ -0,0 +1,81 @@
+package com.teamsync.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Latency histogram, status codes and SQL statement counts for one endpoint
+final class EndpointStats {
+
+    private final String name;
+    // Microseconds, up to one minute, 3 significant digits
+    private final Histogram latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder countedResponses = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    void record(long latencyNanos, int status, int queryCount) {
+        latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), latencies.getHighestTrackableValue()));
+        statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+        if (queryCount >= 0) {
+            statements.add(queryCount);
+            countedResponses.increment();
+        }
+    }
+
+    // Transport failures (timeouts, refused connections) have no status code
+    void recordError(long latencyNanos) {
+        latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), latencies.getHighestTrackableValue()));
+        errors.increment();
+    }
+
+    void reset() {
+        latencies.reset();
+        statuses.clear();
+        statements.reset();
+        countedResponses.reset();
+        errors.reset();
+    }
+
+    Map<String, Object> summary(double elapsedSeconds) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        long count = latencies.getTotalCount();
+        long counted = countedResponses.sum();
+        summary.put("endpoint", name);
+        summary.put("requests", count);
+        summary.put("throughputPerSecond", round(count / elapsedSeconds));
+        summary.put("p50Ms", millis(latencies.getValueAtPercentile(50)));
+        summary.put("p99Ms", millis(latencies.getValueAtPercentile(99)));
+        summary.put("p999Ms", millis(latencies.getValueAtPercentile(99.9)));
+        summary.put("maxMs", millis(latencies.getMaxValue()));
+        summary.put("statementsPerRequest", counted > 0 ? round((double) statements.sum() / counted) : null);
+        Map<String, Long> statusCounts = new TreeMap<>();
+        statuses.forEach((status, adder) -> statusCounts.put(String.valueOf(status), adder.sum()));
+        summary.put("statusCounts", statusCounts);
+        summary.put("transportErrors", errors.sum());
+        return summary;
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
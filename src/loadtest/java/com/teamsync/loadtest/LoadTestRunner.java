@@ -0,0 +1,162 @@
+package com.teamsync.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.teamsync.TeamSyncApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// Starts the application against Postgres, seeds it and drives the REST API at a fixed arrival rate.
+// Run with: mvn -Ploadtest verify [-Dloadtest.rate=500 -Dloadtest.users=200 ...]
+public class LoadTestRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        logger.info("Load test settings: {}", settings);
+
+        EmbeddedPostgres postgres = null;
+        ConfigurableApplicationContext app = null;
+        ExecutorService workers = Executors.newFixedThreadPool(settings.workerThreads);
+        try {
+            String dbUrl = settings.dbUrl;
+            if (dbUrl.isEmpty()) {
+                postgres = EmbeddedPostgres.start();
+                dbUrl = postgres.getJdbcUrl("postgres", "postgres");
+                logger.info("Started embedded Postgres at {}", dbUrl);
+            }
+            app = startApplication(settings, dbUrl);
+            int port = app.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            ObjectMapper objectMapper = app.getBean(ObjectMapper.class);
+            ApiClient api = new ApiClient("http://localhost:" + port, objectMapper);
+
+            SeedData data = new Seeder(api, workers, settings).seed();
+            Workload workload = new Workload(api, data);
+
+            logger.info("Warming up for {}s at {} requests/s", settings.warmupSeconds, settings.requestsPerSecond);
+            drive(workload, workers, settings.requestsPerSecond, settings.warmupSeconds);
+            workload.resetStats();
+            logger.info("Measuring for {}s at {} requests/s", settings.durationSeconds, settings.requestsPerSecond);
+            long started = System.nanoTime();
+            drive(workload, workers, settings.requestsPerSecond, settings.durationSeconds);
+            double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+            // Spring Boot only honours spring.threads.virtual.enabled on Java 21+
+            boolean virtualThreads = Runtime.version().feature() >= 21
+                    && app.getEnvironment().getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+            report(settings, workload, elapsedSeconds, virtualThreads, objectMapper);
+        } finally {
+            workers.shutdownNow();
+            if (app != null) {
+                app.close();
+            }
+            if (postgres != null) {
+                postgres.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestSettings settings, String dbUrl) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url", dbUrl);
+        properties.put("spring.datasource.username", settings.dbUsername);
+        properties.put("spring.datasource.password", settings.dbPassword);
+        properties.put("jwt.secret", "load-test-secret-load-test-secret-load-test-secret-0123456789");
+        properties.put("jwt.expiration", 86400);
+        // Per-request INFO logs would dominate the measurement
+        properties.put("logging.level.com.teamsync", "WARN");
+        properties.put("logging.level.com.teamsync.loadtest", "INFO");
+        properties.put("logging.level.com.teamsync.config.QueryCountFilter", "WARN");
+        // Room for every worker; the pool size is part of what a run measures, so it can still be overridden
+        properties.put("spring.datasource.hikari.maximum-pool-size",
+                Integer.getInteger("loadtest.db-pool-size", 20));
+        // Passed as command-line arguments so they win over application.properties
+        String[] args = properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+        List<String> profiles = new ArrayList<>(List.of("query-debug"));
+        for (String profile : settings.profiles) {
+            if (!profile.isEmpty()) {
+                profiles.add(profile);
+            }
+        }
+        return new SpringApplicationBuilder(TeamSyncApplication.class)
+                .profiles(profiles.toArray(String[]::new))
+                .run(args);
+    }
+
+    // Open-model driver: request k is due at start + k * interval, and latency is measured from that due time,
+    // so a slow server shows up as queueing delay instead of a silently lowered request rate.
+    // Returns once every request issued in this phase has completed.
+    private static void drive(Workload workload, ExecutorService workers, int requestsPerSecond, int seconds)
+            throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+        int total = requestsPerSecond * seconds;
+        CountDownLatch completed = new CountDownLatch(total);
+        long start = System.nanoTime();
+        for (int k = 0; k < total; k++) {
+            long due = start + k * intervalNanos;
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            workers.execute(() -> {
+                try {
+                    workload.runOne(ThreadLocalRandom.current(), due);
+                } finally {
+                    completed.countDown();
+                }
+            });
+        }
+        if (!completed.await(2, TimeUnit.MINUTES)) {
+            logger.warn("{} requests still in flight after the drain timeout", completed.getCount());
+        }
+    }
+
+    private static void report(LoadTestSettings settings, Workload workload, double elapsedSeconds,
+                               boolean virtualThreads, ObjectMapper objectMapper) throws Exception {
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        logger.info(String.format("%-45s %9s %9s %9s %9s %9s %11s  %s",
+                "endpoint", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "stmts/req", "statuses"));
+        for (EndpointStats stats : workload.getStats()) {
+            Map<String, Object> summary = stats.summary(elapsedSeconds);
+            endpoints.add(summary);
+            logger.info(String.format("%-45s %9d %9.1f %9.2f %9.2f %9.2f %11s  %s",
+                    stats.getName(), (Long) summary.get("requests"), (Double) summary.get("throughputPerSecond"),
+                    (Double) summary.get("p50Ms"), (Double) summary.get("p99Ms"), (Double) summary.get("p999Ms"),
+                    summary.get("statementsPerRequest"), summary.get("statusCounts")));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("settings", settings.toString());
+        // Without virtual threads a run with the virtual-threads profile measures only the DataSource bound
+        report.put("javaVersion", Runtime.version().toString());
+        report.put("virtualThreads", virtualThreads);
+        report.put("elapsedSeconds", Math.round(elapsedSeconds * 100) / 100.0);
+        report.put("endpoints", endpoints);
+        File file = new File(settings.reportFile);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        objectMapper.writer().with(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+        logger.info("Load test report written to {}", file.getAbsolutePath());
+    }
+}
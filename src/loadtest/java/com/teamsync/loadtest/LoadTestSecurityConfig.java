@@ -0,0 +1,42 @@
+package com.teamsync.loadtest;
+
+import com.teamsync.config.JwtFilter;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+// Only on the load-test classpath. JwtFilter authenticates without granting authorities, so the
+// hasRole(...) URL rules in SecurityConfig reject every project endpoint. This chain takes precedence
+// for /api/** with the same JWT filter and no URL role rules; TaskService still runs its own
+// admin/member checks, so the measured code path is otherwise unchanged.
+@Configuration
+public class LoadTestSecurityConfig {
+
+    @Autowired
+    private JwtFilter jwtFilter;
+
+    @Bean
+    @Order(1)
+    public SecurityFilterChain loadTestSecurityFilterChain(HttpSecurity http) throws Exception {
+        http
+            .securityMatcher("/api/**")
+            .csrf(csrf -> csrf.disable())
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .authorizeHttpRequests(auth -> auth
+                // StreamingResponseBody and SseEmitter responses finish on an ASYNC dispatch, which JwtFilter
+                // (once per request) skips; the original REQUEST dispatch was already authorized
+                .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+                .requestMatchers("/api/auth/register", "/api/auth/login", "/api/auth/refresh", "/api/auth/logout").permitAll()
+                .anyRequest().authenticated()
+            )
+            .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
+
+        return http.build();
+    }
+}
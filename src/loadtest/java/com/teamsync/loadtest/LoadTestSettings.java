@@ -0,0 +1,66 @@
+package com.teamsync.loadtest;
+
+// Scale and traffic shape, read from -Dloadtest.* system properties (defaults in the loadtest Maven profile)
+final class LoadTestSettings {
+
+    final int users;
+    final int projects;
+    final int membersPerProject;
+    final int tasksPerAssignee;
+    final int requestsPerSecond;
+    final int durationSeconds;
+    final int warmupSeconds;
+    final int workerThreads;
+    final int deepPage;
+    final String[] profiles;
+    final String dbUrl;
+    final String dbUsername;
+    final String dbPassword;
+    final String reportFile;
+
+    private LoadTestSettings() {
+        users = intProperty("loadtest.users", 50);
+        projects = intProperty("loadtest.projects", 10);
+        membersPerProject = intProperty("loadtest.members-per-project", 5);
+        tasksPerAssignee = intProperty("loadtest.tasks-per-assignee", 20);
+        requestsPerSecond = intProperty("loadtest.rate", 200);
+        durationSeconds = intProperty("loadtest.duration-seconds", 60);
+        warmupSeconds = intProperty("loadtest.warmup-seconds", 10);
+        workerThreads = intProperty("loadtest.worker-threads", 64);
+        // Page number for the offset-vs-cursor comparison; 0 leaves the scenario out
+        deepPage = intProperty("loadtest.deep-page", 0);
+        // Extra Spring profiles for the application under test, e.g. virtual-threads
+        profiles = stringProperty("loadtest.profiles", "").split("\\s*,\\s*");
+        // Without a URL an embedded Postgres is started for the run
+        dbUrl = stringProperty("loadtest.db-url", "");
+        dbUsername = stringProperty("loadtest.db-username", "postgres");
+        dbPassword = stringProperty("loadtest.db-password", "postgres");
+        reportFile = stringProperty("loadtest.report", "target/loadtest/loadtest-report.json");
+        if (membersPerProject >= users) {
+            throw new IllegalArgumentException("loadtest.members-per-project must be lower than loadtest.users");
+        }
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings();
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    private static String stringProperty(String name, String defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    @Override
+    public String toString() {
+        return "users=" + users + ", projects=" + projects + ", membersPerProject=" + membersPerProject
+                + ", tasksPerAssignee=" + tasksPerAssignee + ", rate=" + requestsPerSecond + "/s"
+                + ", duration=" + durationSeconds + "s, warmup=" + warmupSeconds + "s"
+                + (deepPage > 0 ? ", deepPage=" + deepPage : "")
+                + (profiles[0].isEmpty() ? "" : ", profiles=" + String.join(",", profiles));
+    }
+}
@@ -0,0 +1,73 @@
+package com.teamsync.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Users, projects and tasks created through the API before the measured run
+final class SeedData {
+
+    static final class SeedUser {
+        final UUID id;
+        final String email;
+        final String password;
+        final String token;
+        // Refresh tokens are single use; the current one is replaced under the user's lock
+        String refreshToken;
+
+        SeedUser(UUID id, String email, String password, String token, String refreshToken) {
+            this.id = id;
+            this.email = email;
+            this.password = password;
+            this.token = token;
+            this.refreshToken = refreshToken;
+        }
+    }
+
+    static final class SeedProject {
+        final UUID id;
+        final SeedUser admin;
+        final List<SeedUser> members = new ArrayList<>();
+
+        SeedProject(UUID id, SeedUser admin) {
+            this.id = id;
+            this.admin = admin;
+        }
+    }
+
+    static final class SeedTask {
+        final UUID id;
+        final SeedProject project;
+        final SeedUser assignee;
+
+        SeedTask(UUID id, SeedProject project, SeedUser assignee) {
+            this.id = id;
+            this.project = project;
+            this.assignee = assignee;
+        }
+    }
+
+    // One assignee with enough tasks for a deep page, in a project the regular mix never writes to
+    static final class DeepPage {
+        static final int SIZE = 20;
+
+        final SeedProject project;
+        final SeedUser assignee;
+        // 1-based page number, and the cursor that starts that page
+        final int page;
+        final String cursor;
+
+        DeepPage(SeedProject project, SeedUser assignee, int page, String cursor) {
+            this.project = project;
+            this.assignee = assignee;
+            this.page = page;
+            this.cursor = cursor;
+        }
+    }
+
+    final List<SeedUser> users = new ArrayList<>();
+    final List<SeedProject> projects = new ArrayList<>();
+    final List<SeedTask> tasks = new ArrayList<>();
+    // Null unless loadtest.deep-page is set
+    DeepPage deepPage;
+}
@@ -0,0 +1,182 @@
+package com.teamsync.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+// Builds the synthetic data set through the real endpoints: register, create project, invite, accept, batch-create tasks
+final class Seeder {
+
+    private static final Logger logger = LoggerFactory.getLogger(Seeder.class);
+    private static final int TASK_BATCH_SIZE = 100;
+    private static final int MAX_SEED_ATTEMPTS = 20;
+
+    private interface Call {
+        ApiClient.Response execute() throws Exception;
+    }
+
+    private final ApiClient api;
+    private final ExecutorService executor;
+    private final LoadTestSettings settings;
+
+    Seeder(ApiClient api, ExecutorService executor, LoadTestSettings settings) {
+        this.api = api;
+        this.executor = executor;
+        this.settings = settings;
+    }
+
+    SeedData seed() throws Exception {
+        SeedData data = new SeedData();
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+
+        List<Callable<SeedData.SeedUser>> registrations = new ArrayList<>();
+        for (int i = 0; i < settings.users; i++) {
+            int n = i;
+            registrations.add(() -> register(runId, n));
+        }
+        data.users.addAll(runAll(registrations));
+        logger.info("Registered {} users", data.users.size());
+
+        for (int p = 0; p < settings.projects; p++) {
+            SeedData.SeedUser admin = data.users.get(p % data.users.size());
+            List<SeedData.SeedUser> members = new ArrayList<>();
+            for (int m = 1; m <= settings.membersPerProject; m++) {
+                members.add(data.users.get((p + m) % data.users.size()));
+            }
+            data.projects.add(createProject("Load test project " + p, admin, members));
+        }
+        logger.info("Created {} projects with {} members each", data.projects.size(), settings.membersPerProject);
+
+        List<Callable<List<SeedData.SeedTask>>> batches = new ArrayList<>();
+        for (SeedData.SeedProject project : data.projects) {
+            for (SeedData.SeedUser assignee : project.members) {
+                for (int offset = 0; offset < settings.tasksPerAssignee; offset += TASK_BATCH_SIZE) {
+                    int count = Math.min(TASK_BATCH_SIZE, settings.tasksPerAssignee - offset);
+                    int first = offset;
+                    batches.add(() -> createTasks(project, assignee, first, count));
+                }
+            }
+        }
+        for (List<SeedData.SeedTask> created : runAll(batches)) {
+            data.tasks.addAll(created);
+        }
+        logger.info("Created {} tasks", data.tasks.size());
+        if (data.tasks.isEmpty()) {
+            throw new IllegalStateException("Seeding produced no tasks; check loadtest.tasks-per-assignee");
+        }
+        if (settings.deepPage > 0) {
+            data.deepPage = seedDeepPage(data);
+        }
+        return data;
+    }
+
+    private SeedData.SeedProject createProject(String name, SeedData.SeedUser admin, List<SeedData.SeedUser> members)
+            throws Exception {
+        JsonNode project = api.expectOk(api.post("/api/projects", admin.token,
+                Map.of("name", name, "description", "Seeded for the load test")), "create project").data();
+        SeedData.SeedProject seedProject = new SeedData.SeedProject(UUID.fromString(project.path("id").asText()), admin);
+        String base = "/api/projects/" + seedProject.id;
+        for (SeedData.SeedUser member : members) {
+            api.expectOk(api.post(base + "/invite/" + member.id, admin.token, null), "invite");
+            api.expectOk(api.post(base + "/accept/" + member.id, member.token, null), "accept");
+            seedProject.members.add(member);
+        }
+        return seedProject;
+    }
+
+    // Fills deep-page full pages for one assignee, then walks the cursor once so the measured cursor
+    // requests can start straight at the deep page
+    private SeedData.DeepPage seedDeepPage(SeedData data) throws Exception {
+        SeedData.SeedUser assignee = data.users.get(1);
+        SeedData.SeedProject project = createProject("Deep pagination project", data.users.get(0), List.of(assignee));
+        int total = settings.deepPage * SeedData.DeepPage.SIZE;
+        List<Callable<List<SeedData.SeedTask>>> batches = new ArrayList<>();
+        for (int offset = 0; offset < total; offset += TASK_BATCH_SIZE) {
+            int count = Math.min(TASK_BATCH_SIZE, total - offset);
+            int first = offset;
+            batches.add(() -> createTasks(project, assignee, first, count));
+        }
+        runAll(batches);
+
+        String path = "/api/projects/" + project.id + "/tasks/users/" + assignee.id + "?size=" + SeedData.DeepPage.SIZE + "&cursor=";
+        String cursor = "";
+        for (int page = 1; page < settings.deepPage; page++) {
+            cursor = api.expectOk(api.get(path + URLEncoder.encode(cursor, StandardCharsets.UTF_8), assignee.token),
+                    "walk cursor").data().path("nextCursor").asText();
+        }
+        logger.info("Created {} tasks for the deep-page scenario (page {} of size {})", total, settings.deepPage,
+                SeedData.DeepPage.SIZE);
+        return new SeedData.DeepPage(project, assignee, settings.deepPage, cursor);
+    }
+
+    private SeedData.SeedUser register(String runId, int n) throws Exception {
+        String email = "load-" + runId + "-" + n + "@teamsync.test";
+        String password = "Password-" + n;
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("firstname", "Load");
+        body.put("lastname", "User" + n);
+        body.put("email", email);
+        body.put("password", password);
+        JsonNode data = api.expectOk(retryShed(() -> api.post("/api/auth/register", null, body)), "register").data();
+        return new SeedData.SeedUser(UUID.fromString(data.path("user").path("id").asText()), email, password,
+                data.path("token").asText(), data.path("refreshToken").asText());
+    }
+
+    private List<SeedData.SeedTask> createTasks(SeedData.SeedProject project, SeedData.SeedUser assignee,
+                                                int first, int count) throws Exception {
+        List<Map<String, Object>> body = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> task = new LinkedHashMap<>();
+            task.put("assigneeId", assignee.id);
+            task.put("title", "Seeded task " + (first + i));
+            task.put("description", "Seeded for the load test");
+            task.put("dueDate", LocalDateTime.now().plusDays((first + i) % 30).withNano(0).toString());
+            body.add(task);
+        }
+        JsonNode results = api.expectOk(retryShed(() -> api.post("/api/projects/" + project.id + "/tasks/batch",
+                project.admin.token, body)), "batch create tasks").data();
+        List<SeedData.SeedTask> tasks = new ArrayList<>(count);
+        for (JsonNode result : results) {
+            if ("succeeded".equals(result.path("status").asText())) {
+                tasks.add(new SeedData.SeedTask(UUID.fromString(result.path("data").path("id").asText()), project, assignee));
+            }
+        }
+        return tasks;
+    }
+
+    // Seeding runs many calls at once; one the server sheds with a 503 (bounded DataSource) is retried with backoff
+    private static ApiClient.Response retryShed(Call call) throws Exception {
+        for (int attempt = 1; ; attempt++) {
+            ApiClient.Response response = call.execute();
+            if (response.status != 503 || attempt == MAX_SEED_ATTEMPTS) {
+                return response;
+            }
+            Thread.sleep(50L * attempt);
+        }
+    }
+
+    private <T> List<T> runAll(List<Callable<T>> calls) throws Exception {
+        List<T> results = new ArrayList<>(calls.size());
+        try {
+            for (Future<T> future : executor.invokeAll(calls)) {
+                results.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+        return results;
+    }
+}
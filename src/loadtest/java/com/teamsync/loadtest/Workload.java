@@ -0,0 +1,133 @@
+package com.teamsync.loadtest;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+// Weighted request mix over the seeded data; each operation records into its own EndpointStats
+final class Workload {
+
+    private interface Call {
+        ApiClient.Response execute(Random random) throws Exception;
+    }
+
+    private static final class Operation {
+        final EndpointStats stats;
+        final int weight;
+        final Call call;
+
+        Operation(String name, int weight, Call call) {
+            this.stats = new EndpointStats(name);
+            this.weight = weight;
+            this.call = call;
+        }
+    }
+
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "DONE"};
+
+    private final List<Operation> operations = new ArrayList<>();
+    private final int totalWeight;
+
+    Workload(ApiClient api, SeedData data) {
+        operations.add(new Operation("GET /projects/{id}/tasks/users/{userId}", 40, random -> {
+            SeedData.SeedTask task = pick(data.tasks, random);
+            return api.get("/api/projects/" + task.project.id + "/tasks/users/" + task.assignee.id + "?size=20",
+                    task.assignee.token);
+        }));
+        operations.add(new Operation("GET /projects/{id}/tasks/{taskId}", 20, random -> {
+            SeedData.SeedTask task = pick(data.tasks, random);
+            return api.get("/api/projects/" + task.project.id + "/tasks/" + task.id, task.assignee.token);
+        }));
+        operations.add(new Operation("PATCH /projects/{id}/tasks/{taskId}", 15, random -> {
+            SeedData.SeedTask task = pick(data.tasks, random);
+            // Only the assigner (the project admin for seeded tasks) may update a task
+            return api.patch("/api/projects/" + task.project.id + "/tasks/" + task.id, task.project.admin.token,
+                    Map.of("status", STATUSES[random.nextInt(STATUSES.length)]));
+        }));
+        operations.add(new Operation("POST /projects/{id}/tasks/batch", 10, random -> {
+            SeedData.SeedProject project = pick(data.projects, random);
+            SeedData.SeedUser assignee = pick(project.members, random);
+            return api.post("/api/projects/" + project.id + "/tasks/batch", project.admin.token,
+                    List.of(Map.of("assigneeId", assignee.id, "title", "Load task",
+                            "description", "Created during the load test",
+                            "dueDate", LocalDateTime.now().plusDays(7).withNano(0).toString())));
+        }));
+        operations.add(new Operation("GET /projects/{id}", 10, random -> {
+            SeedData.SeedProject project = pick(data.projects, random);
+            return api.get("/api/projects/" + project.id, project.admin.token);
+        }));
+        operations.add(new Operation("POST /auth/login", 5, random -> {
+            SeedData.SeedUser user = pick(data.users, random);
+            return api.post("/api/auth/login", null, Map.of("email", user.email, "password", user.password));
+        }));
+        operations.add(new Operation("POST /auth/refresh", 5, random -> {
+            SeedData.SeedUser user = pick(data.users, random);
+            synchronized (user) {
+                ApiClient.Response response = api.post("/api/auth/refresh", null, Map.of("refreshToken", user.refreshToken));
+                if (response.isOk()) {
+                    user.refreshToken = response.data().path("refreshToken").asText();
+                }
+                return response;
+            }
+        }));
+        if (data.deepPage != null) {
+            addDeepPageOperations(api, data.deepPage);
+        }
+        totalWeight = operations.stream().mapToInt(operation -> operation.weight).sum();
+    }
+
+    // Offset pages cost more the deeper they are (the skipped rows are still read, plus a count query);
+    // a cursor page costs the same at any depth. Page 1 and the deep page are measured in both modes.
+    private void addDeepPageOperations(ApiClient api, SeedData.DeepPage deep) {
+        String path = "/api/projects/" + deep.project.id + "/tasks/users/" + deep.assignee.id
+                + "?size=" + SeedData.DeepPage.SIZE;
+        String deepCursor = URLEncoder.encode(deep.cursor, StandardCharsets.UTF_8);
+        operations.add(new Operation("GET tasks offset, page 1", 5,
+                random -> api.get(path + "&page=0", deep.assignee.token)));
+        operations.add(new Operation("GET tasks offset, page " + deep.page, 5,
+                random -> api.get(path + "&page=" + (deep.page - 1), deep.assignee.token)));
+        operations.add(new Operation("GET tasks cursor, page 1", 5,
+                random -> api.get(path + "&cursor=", deep.assignee.token)));
+        operations.add(new Operation("GET tasks cursor, page " + deep.page, 5,
+                random -> api.get(path + "&cursor=" + deepCursor, deep.assignee.token)));
+    }
+
+    void runOne(Random random, long dueNanos) {
+        Operation operation = choose(random);
+        try {
+            ApiClient.Response response = operation.call.execute(random);
+            operation.stats.record(System.nanoTime() - dueNanos, response.status, response.queryCount);
+        } catch (Exception e) {
+            operation.stats.recordError(System.nanoTime() - dueNanos);
+        }
+    }
+
+    List<EndpointStats> getStats() {
+        List<EndpointStats> stats = new ArrayList<>(operations.size());
+        operations.forEach(operation -> stats.add(operation.stats));
+        return stats;
+    }
+
+    void resetStats() {
+        operations.forEach(operation -> operation.stats.reset());
+    }
+
+    private Operation choose(Random random) {
+        int roll = random.nextInt(totalWeight);
+        for (Operation operation : operations) {
+            roll -= operation.weight;
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+    private static <T> T pick(List<T> items, Random random) {
+        return items.get(random.nextInt(items.size()));
+    }
+}
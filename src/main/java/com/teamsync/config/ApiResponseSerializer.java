@@ -0,0 +1,35 @@
+package com.teamsync.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.teamsync.dto.ApiResponse;
+
+import java.io.IOException;
+
+// Writes the {status, message, data} envelope straight to the generator with pre-quoted field names,
+// so the wrapper costs no bean introspection and the payload goes through its own cached serializer
+@SuppressWarnings("rawtypes")
+final class ApiResponseSerializer extends StdSerializer<ApiResponse> {
+
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString DATA = new SerializedString("data");
+
+    ApiResponseSerializer() {
+        super(ApiResponse.class);
+    }
+
+    @Override
+    public void serialize(ApiResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(STATUS);
+        gen.writeString(value.getStatus());
+        gen.writeFieldName(MESSAGE);
+        gen.writeString(value.getMessage());
+        gen.writeFieldName(DATA);
+        provider.defaultSerializeValue(value.getData(), gen);
+        gen.writeEndObject();
+    }
+}
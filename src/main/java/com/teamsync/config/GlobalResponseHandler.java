@@ -1,68 +1,83 @@
 package com.teamsync.config;
 
 import com.teamsync.dto.ApiResponse;
+import com.teamsync.exceptions.PreconditionFailedException;
 import com.teamsync.exceptions.ResourceNotFoundException;
+import com.teamsync.exceptions.ServiceUnavailableException;
 import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
+import jakarta.persistence.OptimisticLockException;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.logging.Logger;
 
 @RestControllerAdvice
 public class GlobalResponseHandler implements ResponseBodyAdvice<Object> {
 
-    private static final Logger logger = Logger.getLogger(GlobalResponseHandler.class.getName());
+    private static final Logger logger = LoggerFactory.getLogger(GlobalResponseHandler.class);
 
+    // Only JSON bodies from the application's own @RestControllers are enveloped. Actuator endpoints and
+    // Boot's error controller keep their standard formats, and handlers that already return ApiResponse
+    // are skipped up front.
     @Override
     public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
-        return true;
+        return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType)
+                && AnnotatedElementUtils.hasAnnotation(returnType.getContainingClass(), RestController.class)
+                && !ApiResponse.class.isAssignableFrom(returnType.getParameterType());
     }
 
     @Override
     public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
                                   Class<? extends HttpMessageConverter<?>> selectedConverterType,
                                   ServerHttpRequest request, ServerHttpResponse response) {
-        if (body instanceof ResponseEntity) {
-            return body;
-        }
+        // ResponseEntity<ApiResponse<?>> and @ExceptionHandler bodies arrive here already wrapped
         if (body instanceof ApiResponse) {
             return body;
         }
-        String message = getGenericMessage(request.getMethod().toString(), body);
-        logger.info("Wrapping response for " + request.getMethod() +  ": " + message);
-        return ApiResponse.success(message, body);
-    }
-
-    private String getGenericMessage(String method, Object body) {
-        switch (method) {
-            case "POST":
-                return "resource created successfully";
-            case "GET":
-                return body instanceof Iterable ? "resources retrieved successfully" : "resource retrieved successfully";
-            case "PUT":
-                return "resource updated successfully";
-            case "DELETE":
-                return "resource deleted successfully";
-            default:
-                return "request processed successfully";
+        HttpMethod method = request.getMethod();
+        logger.debug("Wrapping response for {}", method);
+        return ApiResponse.success(getGenericMessage(method, body), body);
+    }
+
+    private String getGenericMessage(HttpMethod method, Object body) {
+        if (HttpMethod.GET.equals(method)) {
+            return body instanceof Iterable ? "resources retrieved successfully" : "resource retrieved successfully";
+        }
+        if (HttpMethod.POST.equals(method)) {
+            return "resource created successfully";
         }
+        if (HttpMethod.PUT.equals(method)) {
+            return "resource updated successfully";
+        }
+        if (HttpMethod.DELETE.equals(method)) {
+            return "resource deleted successfully";
+        }
+        return "request processed successfully";
     }
 
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
@@ -70,14 +85,14 @@ public class GlobalResponseHandler implements ResponseBodyAdvice<Object> {
         String method = ex.getMethod() != null ? ex.getMethod() : "unknown";
         String supportedMethods = ex.getSupportedMethods() != null ? String.join(", ", ex.getSupportedMethods()) : "unknown";
         String message = String.format("Method '%s' not allowed. Supported methods: %s",method, supportedMethods);
-        logger.warning(message);
+        logger.warn(message);
         return ResponseEntity.status(HttpStatus.METHOD_NOT_ALLOWED).body(ApiResponse.error(message, null));
     }
 
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ApiResponse<Void>> handleInvalidRequestBody(HttpMessageNotReadableException ex) {
         String message = "Invalid request body: " + ex.getMessage();
-        logger.warning(message);
+        logger.warn(message);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(ApiResponse.error(message, null));
     }
@@ -89,7 +104,7 @@ public class GlobalResponseHandler implements ResponseBodyAdvice<Object> {
             errors.put(error.getField(), error.getDefaultMessage());
         }
         String message = "Validation failed";
-        logger.warning(message + ": " + errors);
+        logger.warn("{}: {}", message, errors);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(ApiResponse.error(message, errors));
     }
@@ -100,7 +115,7 @@ public class GlobalResponseHandler implements ResponseBodyAdvice<Object> {
         ex.getConstraintViolations().forEach(violation ->
                 errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
         String message = "Validation failed";
-        logger.warning(message + ": " + errors);
+        logger.warn("{}: {}", message, errors);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(ApiResponse.error(message, errors));
     }
@@ -108,35 +123,69 @@ public class GlobalResponseHandler implements ResponseBodyAdvice<Object> {
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     public ResponseEntity<ApiResponse<Void>> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
         String message = String.format("Invalid parameter '%s': %s", ex.getName(), ex.getMessage());
-        logger.warning(message);
+        logger.warn(message);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(ApiResponse.error(message, null));
     }
 
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ApiResponse<Void>> handleResourceNotFoundException(ResourceNotFoundException ex) {
-        logger.warning("Resource not found");
+        logger.warn("Resource not found");
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(ApiResponse.error(ex.getMessage(), null));
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ApiResponse<Void>> handlePreconditionFailedException(PreconditionFailedException ex) {
+        logger.warn("Precondition failed: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .body(ApiResponse.error(ex.getMessage(), null));
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        logger.warn("Shedding request: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.error(ex.getMessage(), null));
+    }
+
+    // No transaction could be opened: the database is unreachable, or BoundedDataSource shed the request
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ApiResponse<Void>> handleCannotCreateTransaction(CannotCreateTransactionException ex) {
+        if (ex.getMostSpecificCause() instanceof ServiceUnavailableException shed) {
+            return handleServiceUnavailableException(shed);
+        }
+        logger.error("Could not open a transaction: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.error("Database is unavailable, retry shortly", null));
+    }
+
+    @ExceptionHandler({OptimisticLockingFailureException.class, OptimisticLockException.class})
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockFailure(Exception ex) {
+        logger.warn("Concurrent modification: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error("Resource was modified concurrently, reload and retry", null));
+    }
+
     @ExceptionHandler(NoResourceFoundException.class)
     public ResponseEntity<ApiResponse<Void>> handleNoResourceFoundException(NoResourceFoundException ex) {
-        logger.warning("Static resource not found: " + ex.getMessage());
+        logger.warn("Static resource not found: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(ApiResponse.error("Resource not found: " + ex.getMessage(), null));
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ApiResponse<Void>> handleIllegalArgumentException(IllegalArgumentException ex) {
-        logger.warning("Invalid argument: " + ex.getMessage());
+        logger.warn("Invalid argument: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(ApiResponse.error(ex.getMessage(), null));
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Void>> handleGenericException(Exception ex) {
-        logger.severe("Unexpected error: " + ex.getMessage());
+        logger.error("Unexpected error: {}", ex.getMessage());
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(ApiResponse.error("Failed to process request: " + ex.getMessage(), null));
     }
@@ -0,0 +1,79 @@
+package com.teamsync.config;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+// Writes the same text as DateTimeFormatter.ISO_LOCAL_DATE_TIME (seconds always, fraction without
+// trailing zeros) into a small char buffer. The formatter path allocates ~800 bytes per value and
+// every TaskDTO carries three of them. @JsonFormat and timestamp output still go through the
+// formatter path, as do years outside 0000-9999.
+final class IsoLocalDateTimeSerializer extends LocalDateTimeSerializer {
+
+    IsoLocalDateTimeSerializer() {
+        super();
+    }
+
+    private IsoLocalDateTimeSerializer(IsoLocalDateTimeSerializer base, Boolean useTimestamp, Boolean useNanoseconds,
+                                       DateTimeFormatter formatter) {
+        super(base, useTimestamp, useNanoseconds, formatter);
+    }
+
+    // createContextual builds per-property copies through these two; keep them on this class
+    @Override
+    protected LocalDateTimeSerializer withFormat(Boolean useTimestamp, DateTimeFormatter formatter,
+                                                 JsonFormat.Shape shape) {
+        return new IsoLocalDateTimeSerializer(this, useTimestamp, _useNanoseconds, formatter);
+    }
+
+    @Override
+    protected LocalDateTimeSerializer withFeatures(Boolean writeZoneId, Boolean useNanoseconds) {
+        return new IsoLocalDateTimeSerializer(this, _useTimestamp, useNanoseconds, _formatter);
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        int year = value.getYear();
+        if (_formatter != null || useTimestamp(provider) || year < 0 || year > 9999) {
+            super.serialize(value, gen, provider);
+            return;
+        }
+        char[] buf = new char[29];
+        int pos = 0;
+        pos = writeDigits(buf, pos, year, 4);
+        buf[pos++] = '-';
+        pos = writeDigits(buf, pos, value.getMonthValue(), 2);
+        buf[pos++] = '-';
+        pos = writeDigits(buf, pos, value.getDayOfMonth(), 2);
+        buf[pos++] = 'T';
+        pos = writeDigits(buf, pos, value.getHour(), 2);
+        buf[pos++] = ':';
+        pos = writeDigits(buf, pos, value.getMinute(), 2);
+        buf[pos++] = ':';
+        pos = writeDigits(buf, pos, value.getSecond(), 2);
+        int nano = value.getNano();
+        if (nano != 0) {
+            int digits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+            buf[pos++] = '.';
+            pos = writeDigits(buf, pos, nano, digits);
+        }
+        gen.writeString(buf, 0, pos);
+    }
+
+    private static int writeDigits(char[] buf, int pos, int value, int width) {
+        for (int i = pos + width - 1; i >= pos; i--) {
+            buf[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + width;
+    }
+}
@@ -1,5 +1,8 @@
 package com.teamsync.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,20 +12,34 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.logging.Logger;
 
 @Component
 public class JwtFilter extends OncePerRequestFilter {
 
-    private static final Logger logger = Logger.getLogger(JwtFilter.class.getName());
+    private static final Logger logger = LoggerFactory.getLogger(JwtFilter.class);
 
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Timer validTokenTimer;
+    private Timer invalidTokenTimer;
+
+    @PostConstruct
+    void initMetrics() {
+        validTokenTimer = Timer.builder("teamsync.jwt.verify").tag("outcome", "valid").register(meterRegistry);
+        invalidTokenTimer = Timer.builder("teamsync.jwt.verify").tag("outcome", "invalid").register(meterRegistry);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
@@ -32,12 +49,15 @@ public class JwtFilter extends OncePerRequestFilter {
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
-            if (jwtUtil.validateToken(token)) {
-                userId = jwtUtil.getUserIdFromToken(token);
-                email = jwtUtil.getEmailFromToken(token);
-                logger.info("Validated JWT for userId: " + userId + ", email: " + email);
+            Timer.Sample sample = Timer.start(meterRegistry);
+            Optional<JwtPrincipal> principal = jwtUtil.parseToken(token);
+            sample.stop(principal.isPresent() ? validTokenTimer : invalidTokenTimer);
+            if (principal.isPresent()) {
+                userId = principal.get().getUserId();
+                email = principal.get().getEmail();
+                logger.debug("Validated JWT for userId: {}, email: {}", userId, email);
             } else {
-                logger.warning("Invalid JWT token: " + token);
+                logger.warn("Invalid JWT token");
             }
         }
 
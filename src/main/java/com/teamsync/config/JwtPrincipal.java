@@ -0,0 +1,14 @@
+package com.teamsync.config;
+
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// Immutable result of verifying a JWT once
+@Value
+public class JwtPrincipal {
+    UUID userId;
+    String email;
+    Instant expiresAt;
+}
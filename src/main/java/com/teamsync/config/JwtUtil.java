@@ -1,77 +1,259 @@
 package com.teamsync.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
 import java.util.UUID;
-import java.util.logging.Logger;
 
-// Utility for JWT generation and validation
+// Utility for JWT generation and validation.
+// Tokens are signed with the active key and carry its kid; any loaded key verifies, so a new key can be
+// activated while tokens signed with the previous one are still in circulation. Keys and the parser are
+// built once per key set and swapped atomically when the key set changes.
 @Component
 public class JwtUtil {
 
-    private static final Logger logger = Logger.getLogger(JwtUtil.class.getName());
+    private static final Logger logger = LoggerFactory.getLogger(JwtUtil.class);
 
     @Value("${jwt.secret}")
     private String secret;
 
+    // Key id for jwt.secret; tokens issued before key ids were introduced have no kid and are verified with it
+    @Value("${jwt.kid:default}")
+    private String kid;
+
+    // Optional properties file ("active=<kid>" plus "key.<kid>=<secret>" lines); when present it replaces
+    // jwt.secret and is re-read whenever it changes
+    @Value("${jwt.keys-file:}")
+    private String keysFile;
+
     @Value("${jwt.expiration}")
     private Long expiration;
 
-    // Get SecretKey from secret string
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    @Value("${jwt.cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Recently verified tokens keyed by SHA-256 digest; each entry expires with its token
+    private Cache<String, VerifiedToken> verifiedTokens;
+
+    private volatile SigningKeys signingKeys;
+    private volatile FileTime keysFileModified;
+
+    @PostConstruct
+    void init() throws IOException {
+        initCache();
+        if (keysFile.isBlank()) {
+            rotateKeys(Map.of(kid, secret), kid);
+        } else {
+            loadKeysFile();
+        }
+    }
+
+    private void initCache() {
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .recordStats()
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken verified, long currentTime) {
+                        long millis = verified.principal.getExpiresAt().toEpochMilli() - System.currentTimeMillis();
+                        return Math.max(0, millis) * 1_000_000L;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken verified, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken verified, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwtTokens");
+    }
+
+    // Replace the key set. Cached verifications are dropped so tokens of a removed key stop working at once;
+    // an entry a concurrent parse re-inserts afterwards is rejected on lookup because its key is gone.
+    public void rotateKeys(Map<String, String> secretsByKid, String activeKid) {
+        SigningKeys keys = new SigningKeys(secretsByKid, activeKid, kid);
+        signingKeys = keys;
+        verifiedTokens.invalidateAll();
+        logger.info("Loaded JWT keys {} (active: {})", keys.keys.keySet(), activeKid);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.keys-reload-ms:60000}")
+    public void reloadKeysIfChanged() {
+        if (keysFile.isBlank()) {
+            return;
+        }
+        try {
+            if (!Files.getLastModifiedTime(Path.of(keysFile)).equals(keysFileModified)) {
+                loadKeysFile();
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.error("Could not reload JWT keys from {}, keeping the current keys: {}", keysFile, e.getMessage());
+        }
+    }
+
+    private void loadKeysFile() throws IOException {
+        Path path = Path.of(keysFile);
+        FileTime modified = Files.getLastModifiedTime(path);
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        Map<String, String> secrets = new LinkedHashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith("key.")) {
+                secrets.put(name.substring("key.".length()), properties.getProperty(name));
+            }
+        }
+        rotateKeys(secrets, properties.getProperty("active"));
+        keysFileModified = modified;
     }
 
     // Generate JWT token
     public String generateToken(UUID userId, String email) {
-        logger.info("Generating JWT for user: " + email);
+        logger.debug("Generating JWT for user: {}", email);
+        SigningKeys keys = signingKeys;
         return Jwts.builder()
+                .header().keyId(keys.activeKid).and()
                 .subject(userId.toString())
                 .claim("email", email)
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + expiration * 1000))
-                .signWith(getSigningKey())
+                .signWith(keys.activeKey)
                 .compact();
     }
 
-    // Validate JWT token
-    public boolean validateToken(String token) {
+    // Verify the token once and return its principal, served from the cache when seen recently.
+    // One key-set snapshot is used for the whole call: a cached entry only counts while the key that
+    // verified it is still the current key for its kid.
+    public Optional<JwtPrincipal> parseToken(String token) {
+        SigningKeys keys = signingKeys;
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            if (keys.keyFor(cached.kid) == cached.key) {
+                return Optional.of(cached.principal);
+            }
+            verifiedTokens.asMap().remove(digest, cached);
+        }
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Jws<Claims> jws = keys.parser.parseSignedClaims(token);
+            Claims claims = jws.getPayload();
+            if (claims.getExpiration() == null) {
+                logger.debug("Rejecting JWT: missing expiration");
+                return Optional.empty();
+            }
+            JwtPrincipal principal = new JwtPrincipal(
+                    UUID.fromString(claims.getSubject()),
+                    claims.get("email", String.class),
+                    claims.getExpiration().toInstant());
+            if (cacheMaxSize > 0) {
+                String tokenKid = jws.getHeader().getKeyId();
+                verifiedTokens.put(digest, new VerifiedToken(principal, tokenKid, keys.keyFor(tokenKid)));
+            }
+            return Optional.of(principal);
         } catch (Exception e) {
-            logger.warning("Invalid JWT token: " + e.getMessage());
-            return false;
+            // JwtFilter logs the rejection once at WARN; the reason is only useful when debugging
+            logger.debug("Rejecting JWT: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
     }
 
-    // Get user ID from token
-    public UUID getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return UUID.fromString(claims.getSubject());
+    // A cached verification and the key that produced it
+    private static final class VerifiedToken {
+        final JwtPrincipal principal;
+        final String kid;
+        final SecretKey key;
+
+        VerifiedToken(JwtPrincipal principal, String kid, SecretKey key) {
+            this.principal = principal;
+            this.kid = kid;
+            this.key = key;
+        }
     }
 
-    // Get email from token
-    public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.get("email", String.class);
+    // Immutable key set with the parser that verifies against it; JwtParser is thread-safe
+    private static final class SigningKeys {
+        final String activeKid;
+        final SecretKey activeKey;
+        final Map<String, SecretKey> keys;
+        final String legacyKid;
+        final JwtParser parser;
+
+        SigningKeys(Map<String, String> secretsByKid, String activeKid, String legacyKid) {
+            Map<String, SecretKey> loaded = new LinkedHashMap<>();
+            secretsByKid.forEach((id, secret) -> loaded.put(id, Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8))));
+            if (activeKid == null || !loaded.containsKey(activeKid)) {
+                throw new IllegalArgumentException("Active JWT key '" + activeKid + "' is not among the loaded keys");
+            }
+            this.activeKid = activeKid;
+            this.activeKey = loaded.get(activeKid);
+            this.keys = Collections.unmodifiableMap(loaded);
+            this.legacyKid = legacyKid;
+            this.parser = Jwts.parser()
+                    .keyLocator(new LocatorAdapter<Key>() {
+                        @Override
+                        protected Key locate(JwsHeader header) {
+                            return keyFor(header.getKeyId());
+                        }
+                    })
+                    .build();
+        }
+
+        // Tokens without a kid predate key ids and belong to jwt.secret
+        SecretKey keyFor(String tokenKid) {
+            return keys.get(tokenKid != null ? tokenKid : legacyKid);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,48 @@
+package com.teamsync.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+
+// Debug-only: buffers the response so the number of SQL statements can be sent as a header
+@Component
+@Profile("query-debug")
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryCountFilter.class);
+    static final String HEADER = "X-Query-Count";
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Streaming responses cannot be buffered
+        String accept = request.getHeader("Accept");
+        return accept != null && (accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE)
+                || accept.contains(MediaType.APPLICATION_NDJSON_VALUE));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        QueryCountInspector.reset();
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            int queries = QueryCountInspector.count();
+            QueryCountInspector.clear();
+            logger.debug("{} {} executed {} statements", request.getMethod(), request.getRequestURI(), queries);
+            wrapper.setHeader(HEADER, String.valueOf(queries));
+            wrapper.copyBodyToResponse();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.teamsync.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+
+// Opt-in "virtual-threads" profile: request threads become cheap, so the database has to be
+// protected explicitly. Every DataSource is wrapped in a BoundedDataSource that lets requests use all but
+// teamsync.db.reserved-connections of the Hikari pool (or exactly teamsync.db.max-concurrency), so
+// background writers always find a connection and excess requests get a fast 503.
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    // Spring Boot silently ignores spring.threads.virtual.enabled before Java 21, which would leave the
+    // profile measuring only the connection bound
+    @PostConstruct
+    void checkRuntime() {
+        int feature = Runtime.version().feature();
+        if (feature < 21) {
+            logger.warn("The virtual-threads profile is active on Java {}; virtual threads need Java 21+, so requests"
+                    + " stay on platform threads and only the DataSource bound applies", feature);
+        }
+    }
+
+    @Bean
+    public static BeanPostProcessor boundedDataSourcePostProcessor(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+            @Value("${teamsync.db.reserved-connections:2}") int reservedConnections,
+            @Value("${teamsync.db.max-concurrency:0}") int configuredMaxConcurrency,
+            @Value("${teamsync.db.acquire-timeout-ms:250}") long acquireTimeoutMillis) {
+        int maxConcurrency = configuredMaxConcurrency > 0 ? configuredMaxConcurrency : poolSize - reservedConnections;
+        if (maxConcurrency < 1 || maxConcurrency >= poolSize) {
+            throw new IllegalStateException("Request connections (" + maxConcurrency
+                    + ") must be at least 1 and below the Hikari pool size (" + poolSize + ")");
+        }
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof BoundedDataSource)) {
+                    logger.info("Limiting DataSource '{}' to {} of {} connections for requests", beanName, maxConcurrency, poolSize);
+                    return new BoundedDataSource(dataSource, maxConcurrency, acquireTimeoutMillis);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -3,30 +3,36 @@ package com.teamsync.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.teamsync.dto.ApiResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.time.LocalDateTime;
+
+// Spring Boot builds the one MappingJackson2HttpMessageConverter from this ObjectMapper bean
 @Configuration
-public class WebConfig implements WebMvcConfigurer {
+public class WebConfig {
     @Bean
-    public ObjectMapper objectMapper() {
+    public ObjectMapper objectMapper(@Value("${teamsync.json.optimized-serializers:true}") boolean optimizedSerializers) {
         ObjectMapper mapper = new ObjectMapper();
         mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         mapper.configure(SerializationFeature.FAIL_ON_SELF_REFERENCES, false);
+        // LocalDateTime fields on the DTOs need the java.time module; write them as ISO strings
+        mapper.registerModule(new JavaTimeModule());
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        mapper.registerModule(new SimpleModule("teamsync-envelope")
+                .addSerializer(ApiResponse.class, new ApiResponseSerializer()));
+        if (optimizedSerializers) {
+            // Property access through generated lambdas instead of reflection (types it cannot reach
+            // keep reflection), and LocalDateTime written without a DateTimeFormatter
+            mapper.registerModule(new BlackbirdModule());
+            mapper.registerModule(new SimpleModule("teamsync-java-time")
+                    .addSerializer(LocalDateTime.class, new IsoLocalDateTimeSerializer()));
+        }
         return mapper;
     }
-
-    @Bean
-    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
-        MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter();
-        converter.setObjectMapper(objectMapper);
-        return converter;
-    }
-
-    @Override
-    public void configureMessageConverters(java.util.List<org.springframework.http.converter.HttpMessageConverter<?>> converters) {
-        converters.add(mappingJackson2HttpMessageConverter(objectMapper()));
-    }
-}
\ No newline at end of file
+}
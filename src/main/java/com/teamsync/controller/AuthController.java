@@ -5,6 +5,8 @@ import com.teamsync.dto.ApiResponse;
 import com.teamsync.dto.UserRegistrationDTO;
 import com.teamsync.entity.User;
 // import com.teamsync.mapper.UserMapper;
+import com.teamsync.service.PasswordHashingService;
+import com.teamsync.service.RefreshTokenService;
 import com.teamsync.service.UserService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
@@ -12,18 +14,19 @@ import jakarta.validation.constraints.NotBlank;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.logging.Logger;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
 
-    private static final Logger logger = Logger.getLogger(AuthController.class.getName());
+    private static final Logger logger = LoggerFactory.getLogger(AuthController.class);
 
     @Autowired
     private UserService userService;
@@ -32,14 +35,17 @@ public class AuthController {
     private JwtUtil jwtUtil;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
 
     @PostMapping("/register")
     public ResponseEntity<ApiResponse<Map<String, Object>>> register(@Valid @RequestBody UserRegistrationDTO registrationDTO) {
-        logger.info("Registering user: " + registrationDTO.getEmail());
+        logger.info("Registering user: {}", registrationDTO.getEmail());
         User user = new User();
         user.setEmail(registrationDTO.getEmail());
-        user.setPassword(passwordEncoder.encode(registrationDTO.getPassword()));
+        user.setPassword(passwordHashingService.encode(registrationDTO.getPassword()));
         user.setFirstName(registrationDTO.getFirstname());
         user.setLastName(registrationDTO.getLastname());
         User savedUser = userService.saveUser(user);
@@ -54,15 +60,17 @@ public class AuthController {
         userData.put("createdAt", savedUser.getCreatedAt() != null ? savedUser.getCreatedAt().toString() : null);
         responseData.put("user", userData);
         responseData.put("token", token);
+        responseData.put("refreshToken", refreshTokenService.issue(savedUser.getId()));
         return ResponseEntity.ok(ApiResponse.success("User registered successfully", responseData));
     }
 
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<Map<String, Object>>> login(@Valid @RequestBody LoginRequest loginRequest) {
-        logger.info("Login attempt for: " + loginRequest.getEmail());
+        logger.info("Login attempt for: {}", loginRequest.getEmail());
         return userService.getUserByEmail(loginRequest.getEmail())
-                .filter(user -> passwordEncoder.matches(loginRequest.getPassword(), user.getPassword()))
+                .filter(user -> passwordHashingService.matches(loginRequest.getPassword(), user.getPassword()))
                 .map(user -> {
+                    passwordHashingService.rehashIfNeeded(user.getId(), loginRequest.getPassword(), user.getPassword());
                     String token = jwtUtil.generateToken(user.getId(), user.getEmail());
                     Map<String, Object> responseData = new HashMap<>();
                     // Manual mapping
@@ -74,11 +82,42 @@ public class AuthController {
                     userData.put("createdAt", user.getCreatedAt() != null ? user.getCreatedAt().toString() : null);
                     responseData.put("user", userData);
                     responseData.put("token", token);
+                    responseData.put("refreshToken", refreshTokenService.issue(user.getId()));
                     return ResponseEntity.ok(ApiResponse.success("Login successful", responseData));
                 })
                 .orElseGet(() -> ResponseEntity.status(401)
                         .body(ApiResponse.error("Invalid email or password", null)));
     }
+
+    // Exchange a refresh token for a new access token and a new refresh token; no password check involved
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> refresh(@Valid @RequestBody RefreshRequest refreshRequest) {
+        return refreshTokenService.consume(refreshRequest.getRefreshToken())
+                .flatMap(userService::getUserById)
+                .map(user -> {
+                    logger.debug("Refreshing tokens for user ID: {}", user.getId());
+                    Map<String, Object> responseData = new HashMap<>();
+                    responseData.put("token", jwtUtil.generateToken(user.getId(), user.getEmail()));
+                    responseData.put("refreshToken", refreshTokenService.issue(user.getId()));
+                    return ResponseEntity.ok(ApiResponse.success("Token refreshed successfully", responseData));
+                })
+                .orElseGet(() -> ResponseEntity.status(401)
+                        .body(ApiResponse.error("Invalid or expired refresh token", null)));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<Void>> logout(@Valid @RequestBody RefreshRequest refreshRequest) {
+        refreshTokenService.revoke(refreshRequest.getRefreshToken());
+        return ResponseEntity.ok(ApiResponse.success("Logged out successfully", null));
+    }
+
+    // Revoke every refresh token of the caller, e.g. after a lost device; needs a valid access token
+    @PostMapping("/logout-all")
+    public ResponseEntity<ApiResponse<Void>> logoutAll(@RequestAttribute("userId") UUID userId) {
+        logger.info("Logging out user ID: {} on all devices", userId);
+        refreshTokenService.revokeAll(userId);
+        return ResponseEntity.ok(ApiResponse.success("Logged out on all devices", null));
+    }
 }  
 
 class LoginRequest {
@@ -95,3 +134,10 @@ class LoginRequest {
     public void setPassword(String password) { this.password = password; }
 }
 
+class RefreshRequest {
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
+
+    public String getRefreshToken() { return refreshToken; }
+    public void setRefreshToken(String refreshToken) { this.refreshToken = refreshToken; }
+}
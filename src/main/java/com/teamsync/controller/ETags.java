@@ -0,0 +1,83 @@
+package com.teamsync.controller;
+
+import com.teamsync.exceptions.PreconditionFailedException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// Strong entity tags built from version columns or content digests, and parsing of If-Match values
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String ofVersion(long version) {
+        return "\"" + version + "\"";
+    }
+
+    // For a row whose representation embeds other rows: "<version>-<digest of the embedded parts>".
+    // parseVersion reads the version back, so If-Match still compares against the row alone.
+    static String ofVersion(long version, Object... embedded) {
+        Digest digest = digest();
+        for (Object part : embedded) {
+            digest.add(part);
+        }
+        return "\"" + version + "-" + digest.hex() + "\"";
+    }
+
+    static Digest digest() {
+        return new Digest();
+    }
+
+    // SHA-256 over the string form of each part, truncated to 128 bits
+    static final class Digest {
+        private final MessageDigest sha256;
+
+        private Digest() {
+            try {
+                sha256 = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+
+        Digest add(Object part) {
+            sha256.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+            sha256.update((byte) 0);
+            return this;
+        }
+
+        String hex() {
+            return HexFormat.of().formatHex(sha256.digest(), 0, 16);
+        }
+
+        String toETag() {
+            return "\"" + hex() + "\"";
+        }
+    }
+
+    // Expected version from an If-Match header; null when absent or "*"
+    static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            throw new PreconditionFailedException("If-Match requires a strong ETag");
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        int digestStart = value.indexOf('-');
+        if (digestStart > 0) {
+            value = value.substring(0, digestStart);
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match does not match the current version");
+        }
+    }
+}
@@ -1,26 +1,49 @@
 package com.teamsync.controller;
 
 import com.teamsync.dto.ApiResponse;
+import com.teamsync.dto.BatchItemResult;
 import com.teamsync.dto.PaginatedResponse;
+import com.teamsync.dto.TaskBatchCreateDTO;
+import com.teamsync.dto.TaskCursor;
 import com.teamsync.dto.TaskDTO;
+import com.teamsync.dto.TaskFilter;
+import com.teamsync.dto.TaskPatchDTO;
+import com.teamsync.dto.TaskStatusUpdateDTO;
 import com.teamsync.dto.ProjectCreationDTO;
+import com.teamsync.dto.ProjectResponseDTO;
+import com.teamsync.dto.ProjectTaskStatsDTO;
 import com.teamsync.entity.Project;
 import com.teamsync.entity.Task;
+import com.teamsync.entity.User;
 import com.teamsync.exceptions.ResourceNotFoundException;
+import com.teamsync.mapper.ProjectMapper;
+import com.teamsync.repository.TaskRepository;
+import com.teamsync.service.ProjectAccessService;
+import com.teamsync.service.TaskEventHub;
 import com.teamsync.service.TaskService;
+import com.teamsync.service.TaskStatsService;
 import com.teamsync.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
-import java.util.logging.Logger;
 
 @RestController
 @RequestMapping("/api")
 public class TaskController {
-    private static final Logger logger = Logger.getLogger(TaskController.class.getName());
+    private static final Logger logger = LoggerFactory.getLogger(TaskController.class);
 
     @Autowired
     private TaskService taskService;
@@ -28,110 +51,275 @@ public class TaskController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private ProjectAccessService projectAccessService;
+
+    @Autowired
+    private TaskEventHub taskEventHub;
+
     @PostMapping("/projects")
-    public ResponseEntity<ApiResponse<Project>> createProject(@RequestAttribute("userId") UUID adminId, @RequestBody ProjectCreationDTO projectDTO) {
-        logger.info("Creating project by admin ID: " + adminId);
+    public ResponseEntity<ApiResponse<ProjectResponseDTO>> createProject(@RequestAttribute("userId") UUID adminId, @RequestBody ProjectCreationDTO projectDTO) {
+        logger.info("Creating project by admin ID: {}", adminId);
         Project project = new Project();
         project.setName(projectDTO.getName());
         project.setDescription(projectDTO.getDescription());
         project.setAdmin(userService.getUserById(adminId)
                 .orElseThrow(() -> new ResourceNotFoundException("Admin not found with id: " + adminId)));
         Project createdProject = taskService.createProject(adminId, project);
-        return ResponseEntity.ok(ApiResponse.success("Project created successfully", createdProject));
+        return ResponseEntity.ok(ApiResponse.success("Project created successfully", ProjectMapper.toResponseDTO(createdProject)));
     }
 
     @GetMapping("/projects/{projectId}")
-    public ResponseEntity<ApiResponse<Project>> getProjectById(@PathVariable UUID projectId) {
-        logger.info("Fetching project with ID: " + projectId);
-        Project project = taskService.getProjectById(projectId);
-        return ResponseEntity.ok(ApiResponse.success("Project retrieved successfully", project));
+    public ResponseEntity<ApiResponse<ProjectResponseDTO>> getProjectById(@PathVariable UUID projectId,
+                                                                          @RequestParam(required = false) Set<String> include,
+                                                                          WebRequest webRequest) {
+        logger.debug("Fetching project with ID: {}", projectId);
+        Set<String> expansions = include != null ? include : Set.of();
+        // Task counts move without touching the project row, so that expansion is never conditional
+        String etag = null;
+        if (!expansions.contains("taskCounts")) {
+            etag = ETags.ofVersion(taskService.getProjectVersion(projectId));
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+        }
+        ProjectResponseDTO project = taskService.getProjectSummary(projectId, expansions);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        return response.body(ApiResponse.success("Project retrieved successfully", project));
+    }
+
+    @GetMapping("/projects/{projectId}/stats")
+    public ResponseEntity<ApiResponse<ProjectTaskStatsDTO>> getProjectStats(@PathVariable UUID projectId) {
+        logger.debug("Fetching task stats for project ID: {}", projectId);
+        ProjectTaskStatsDTO stats = taskStatsService.getProjectStats(projectId);
+        return ResponseEntity.ok(ApiResponse.success("Project stats retrieved successfully", stats));
     }
 
     @PostMapping("/projects/{projectId}/invite/{userId}")
     public ResponseEntity<ApiResponse<Void>> inviteMember(@PathVariable UUID projectId, @RequestAttribute("userId") UUID adminId, @PathVariable UUID userId) {
-        logger.info("Inviting user ID: " + userId + " to project ID: " + projectId);
+        logger.info("Inviting user ID: {} to project ID: {}", userId, projectId);
         taskService.inviteMember(projectId, adminId, userId);
         return ResponseEntity.ok(ApiResponse.success("Invitation sent successfully", null));
     }
 
     @PostMapping("/projects/{projectId}/accept/{userId}")
     public ResponseEntity<ApiResponse<Void>> acceptInvitation(@PathVariable UUID projectId, @RequestAttribute("userId") UUID userId) {
-        logger.info("User ID: " + userId + " accepting invitation for project ID: " + projectId);
+        logger.info("User ID: {} accepting invitation for project ID: {}", userId, projectId);
         taskService.acceptInvitation(projectId, userId);
         return ResponseEntity.ok(ApiResponse.success("Invitation accepted successfully", null));
     }
 
     @PostMapping("/projects/{projectId}/reject/{userId}")
     public ResponseEntity<ApiResponse<Void>> rejectInvitation(@PathVariable UUID projectId, @RequestAttribute("userId") UUID userId) {
-        logger.info("User ID: " + userId + " rejecting invitation for project ID: " + projectId);
+        logger.info("User ID: {} rejecting invitation for project ID: {}", userId, projectId);
         taskService.rejectInvitation(projectId, userId);
         return ResponseEntity.ok(ApiResponse.success("Invitation rejected successfully", null));
     }
 
     @PostMapping("/projects/{projectId}/remove/{userId}")
     public ResponseEntity<ApiResponse<Void>> removeMember(@PathVariable UUID projectId, @RequestAttribute("userId") UUID adminId, @PathVariable UUID userId) {
-        logger.info("Removing user ID: " + userId + " from project ID: " + projectId);
+        logger.info("Removing user ID: {} from project ID: {}", userId, projectId);
         taskService.removeMember(projectId, adminId, userId);
         return ResponseEntity.ok(ApiResponse.success("Member removed successfully", null));
     }
 
     @DeleteMapping("/projects/{projectId}")
     public ResponseEntity<ApiResponse<Void>> deleteProject(@PathVariable UUID projectId, @RequestAttribute("userId") UUID adminId) {
-        logger.info("Deleting project with ID: " + projectId + " by admin ID: " + adminId);
+        logger.info("Deleting project with ID: {} by admin ID: {}", projectId, adminId);
         taskService.deleteProject(projectId, adminId);
         return ResponseEntity.ok(ApiResponse.success("Project deleted successfully", null));
     }
 
     @PostMapping("/projects/{projectId}/tasks/users/{assigneeId}")
     public ResponseEntity<ApiResponse<TaskDTO>> createTask(@PathVariable UUID projectId, @RequestAttribute("userId") UUID assignerId, @PathVariable UUID assigneeId, @RequestBody Task task) {
-        logger.info("Creating task in project ID: " + projectId + " for assigner ID: " + assignerId + ", assignee ID: " + assigneeId);
+        logger.info("Creating task in project ID: {} for assigner ID: {}, assignee ID: {}", projectId, assignerId, assigneeId);
         TaskDTO createdTask = taskService.createTask(assignerId, assigneeId, projectId, task);
         return ResponseEntity.ok(ApiResponse.success("Task created successfully", createdTask));
     }
 
+    @PostMapping("/projects/{projectId}/tasks/batch")
+    public ResponseEntity<ApiResponse<List<BatchItemResult<TaskDTO>>>> createTasks(@PathVariable UUID projectId, @RequestAttribute("userId") UUID assignerId, @RequestBody List<TaskBatchCreateDTO> tasks) {
+        logger.info("Creating {} tasks in project ID: {} for assigner ID: {}", tasks.size(), projectId, assignerId);
+        List<BatchItemResult<TaskDTO>> results = taskService.createTasks(assignerId, projectId, tasks);
+        return ResponseEntity.ok(ApiResponse.success(batchMessage(results), results));
+    }
+
+    @PatchMapping("/projects/{projectId}/tasks/batch/status")
+    public ResponseEntity<ApiResponse<List<BatchItemResult<TaskDTO>>>> updateTaskStatuses(@PathVariable UUID projectId, @RequestAttribute("userId") UUID userId, @RequestBody List<TaskStatusUpdateDTO> updates) {
+        logger.info("Updating status of {} tasks in project ID: {} by user ID: {}", updates.size(), projectId, userId);
+        List<BatchItemResult<TaskDTO>> results = taskService.updateTaskStatuses(projectId, userId, updates);
+        return ResponseEntity.ok(ApiResponse.success(batchMessage(results), results));
+    }
+
+    private String batchMessage(List<BatchItemResult<TaskDTO>> results) {
+        long succeeded = results.stream().filter(BatchItemResult::isSucceeded).count();
+        return "Batch processed: " + succeeded + " succeeded, " + (results.size() - succeeded) + " failed";
+    }
+
     @GetMapping("/projects/{projectId}/tasks/users/{userId}")
     public ResponseEntity<ApiResponse<PaginatedResponse<TaskDTO>>> getTasksByUserId(
             @PathVariable UUID projectId, @PathVariable UUID userId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-        logger.info("Fetching tasks for user ID: " + userId + " in project ID: " + projectId + " (page=" + page + ", size=" + size + ")");
-        List<TaskDTO> tasks = taskService.getTasksByUserId(userId, page, size);
-        long totalCount = taskService.countTasksByUserId(userId);
-        int totalPages = (int) Math.ceil((double) totalCount / size);
-        PaginatedResponse<TaskDTO> response = new PaginatedResponse<>(
-                tasks,
-                totalCount,
-                page,
-                totalPages,
-                page + 1 < totalPages
-        );
-        return ResponseEntity.ok(ApiResponse.success("Tasks retrieved successfully", response));
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            @RequestParam(required = false) Task.Status status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueAfter,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueBefore,
+            WebRequest webRequest) {
+        TaskFilter filter = new TaskFilter();
+        filter.setStatus(status);
+        filter.setDueAfter(dueAfter);
+        filter.setDueBefore(dueBefore);
+        ETags.Digest etag = ETags.digest()
+                .add(projectId).add(userId).add(status).add(dueAfter).add(dueBefore).add(size);
+        PaginatedResponse<TaskDTO> response;
+        if (cursor != null) {
+            etag.add("cursor").add(cursor).add(includeTotal);
+            response = getTasksByUserIdWithCursor(projectId, userId, filter, cursor, size, includeTotal);
+        } else {
+            etag.add("page").add(page);
+            logger.debug("Fetching tasks for user ID: {} in project ID: {} (page={}, size={})", userId, projectId, page, size);
+            Page<TaskDTO> tasks = taskService.getTasksByUserId(projectId, userId, filter, page, size);
+            response = new PaginatedResponse<>(
+                    tasks.getContent(),
+                    tasks.getTotalElements(),
+                    page,
+                    tasks.getTotalPages(),
+                    tasks.hasNext()
+            );
+        }
+        // The tag digests the page as rendered, embedded users included, so it needs no query of its own;
+        // a 304 saves the serialization and the transfer
+        String tag = addPage(etag, response).toETag();
+        if (webRequest.checkNotModified(tag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(tag).body(ApiResponse.success("Tasks retrieved successfully", response));
+    }
+
+    // Cursor mode: an empty cursor starts from the newest task, the total count is only computed on request
+    private PaginatedResponse<TaskDTO> getTasksByUserIdWithCursor(
+            UUID projectId, UUID userId, TaskFilter filter, String cursor, int size, boolean includeTotal) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        logger.debug("Fetching tasks for user ID: {} in project ID: {} (cursor mode, size={})", userId, projectId, size);
+        TaskCursor after = cursor.isEmpty() ? null : TaskCursor.decode(cursor);
+        List<TaskDTO> tasks = taskService.getTasksByUserIdAfter(projectId, userId, filter, after, size);
+        boolean hasNext = tasks.size() > size;
+        if (hasNext) {
+            tasks = tasks.subList(0, size);
+        }
+        String nextCursor = hasNext ? TaskCursor.of(tasks.get(tasks.size() - 1)).encode() : null;
+        Long totalCount = includeTotal ? taskService.countTasksByUserId(projectId, userId, filter) : null;
+        return new PaginatedResponse<>(tasks, totalCount, hasNext, nextCursor);
+    }
+
+    private static ETags.Digest addPage(ETags.Digest digest, PaginatedResponse<TaskDTO> page) {
+        digest.add(page.getTotalCount()).add(page.getCurrentPage()).add(page.getTotalPages())
+                .add(page.isHasNext()).add(page.getNextCursor());
+        for (TaskDTO task : page.getItems()) {
+            digest.add(task.getId()).add(task.getTitle()).add(task.getDescription()).add(task.getStatus())
+                    .add(task.getDueDate()).add(task.getCreatedAt()).add(task.getUpdatedAt());
+            addUser(digest, task.getAssignee());
+            addUser(digest, task.getAssigner());
+        }
+        return digest;
+    }
+
+    private static void addUser(ETags.Digest digest, TaskDTO.UserSummary user) {
+        digest.add(user.getId()).add(user.getEmail()).add(user.getFirstName()).add(user.getLastName());
+    }
+
+    // Server-sent events for task changes in the project; only the admin and members may subscribe
+    @GetMapping(value = "/projects/{projectId}/tasks/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskEvents(@PathVariable UUID projectId, @RequestAttribute("userId") UUID userId) {
+        logger.info("User ID: {} subscribing to task events for project ID: {}", userId, projectId);
+        if (!projectAccessService.canContribute(projectId, userId)) {
+            throw new ResourceNotFoundException("User not authorized to view tasks in this project");
+        }
+        return taskEventHub.subscribe(projectId);
     }
 
     @GetMapping("/projects/{projectId}/tasks/{id}")
-    public ResponseEntity<ApiResponse<TaskDTO>> getTaskById(@PathVariable UUID projectId, @PathVariable UUID id) {
-        logger.info("Fetching task with ID: " + id + " in project ID: " + projectId);
+    public ResponseEntity<ApiResponse<TaskDTO>> getTaskById(@PathVariable UUID projectId, @PathVariable UUID id, WebRequest webRequest) {
+        logger.debug("Fetching task with ID: {} in project ID: {}", id, projectId);
+        // Revalidation reads only the version and the embedded user columns before deciding on 304
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(taskETag(taskService.getTaskValidator(projectId, id)))) {
+            return null;
+        }
         Task task = taskService.getTaskById(id);
         if (!task.getProject().getId().equals(projectId)) {
             throw new ResourceNotFoundException("Task not found in this project");
         }
         TaskDTO dto = taskService.convertToDTO(task, task.getAssigner());
-        return ResponseEntity.ok(ApiResponse.success("Task retrieved successfully", dto));
+        return ResponseEntity.ok().eTag(taskETag(task)).body(ApiResponse.success("Task retrieved successfully", dto));
+    }
+
+    // TaskDTO embeds assignee and assigner, so their fields are part of the task's ETag
+    private static String taskETag(Task task) {
+        User assignee = task.getAssignee();
+        User assigner = task.getAssigner();
+        return ETags.ofVersion(task.getVersion(),
+                assignee != null ? assignee.getId() : null, assignee != null ? assignee.getEmail() : null,
+                assignee != null ? assignee.getFirstName() : null, assignee != null ? assignee.getLastName() : null,
+                assigner != null ? assigner.getId() : null, assigner != null ? assigner.getEmail() : null,
+                assigner != null ? assigner.getFirstName() : null, assigner != null ? assigner.getLastName() : null);
+    }
+
+    private static String taskETag(TaskRepository.TaskValidator task) {
+        return ETags.ofVersion(task.getVersion(),
+                task.getAssigneeId(), task.getAssigneeEmail(), task.getAssigneeFirstName(), task.getAssigneeLastName(),
+                task.getAssignerId(), task.getAssignerEmail(), task.getAssignerFirstName(), task.getAssignerLastName());
+    }
+
+    @GetMapping("/projects/{projectId}/tasks/{id}/history")
+    public ResponseEntity<ApiResponse<PaginatedResponse<TaskDTO.StatusHistory>>> getStatusHistory(
+            @PathVariable UUID projectId, @PathVariable UUID id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        logger.debug("Fetching status history for task ID: {} in project ID: {}", id, projectId);
+        Page<TaskDTO.StatusHistory> history = taskService.getStatusHistory(projectId, id, page, size);
+        PaginatedResponse<TaskDTO.StatusHistory> response = new PaginatedResponse<>(
+                history.getContent(),
+                history.getTotalElements(),
+                page,
+                history.getTotalPages(),
+                history.hasNext()
+        );
+        return ResponseEntity.ok(ApiResponse.success("Status history retrieved successfully", response));
     }
 
     @PutMapping("/projects/{projectId}/tasks/{id}")
-    public ResponseEntity<ApiResponse<TaskDTO>> updateTask(@PathVariable UUID projectId, @PathVariable UUID id, @RequestAttribute("userId") UUID userId, @RequestBody Task taskDetails) {
-        logger.info("Updating task with ID: " + id + " in project ID: " + projectId + " by user ID: " + userId);
-        Task updatedTask = taskService.updateTask(id, taskDetails, userId);
+    public ResponseEntity<ApiResponse<TaskDTO>> updateTask(@PathVariable UUID projectId, @PathVariable UUID id, @RequestAttribute("userId") UUID userId, @RequestBody Task taskDetails,
+                                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        logger.info("Updating task with ID: {} in project ID: {} by user ID: {}", id, projectId, userId);
+        Task updatedTask = taskService.updateTask(id, taskDetails, userId, ETags.parseVersion(ifMatch));
         if (!updatedTask.getProject().getId().equals(projectId)) {
             throw new ResourceNotFoundException("Task not found in this project");
         }
-        return ResponseEntity.ok(ApiResponse.success("Task updated successfully", taskService.convertToDTO(updatedTask, updatedTask.getAssigner())));
+        return ResponseEntity.ok().eTag(taskETag(updatedTask)).body(ApiResponse.success("Task updated successfully", taskService.convertToDTO(updatedTask, updatedTask.getAssigner())));
+    }
+
+    @PatchMapping("/projects/{projectId}/tasks/{id}")
+    public ResponseEntity<ApiResponse<TaskDTO>> patchTask(@PathVariable UUID projectId, @PathVariable UUID id, @RequestAttribute("userId") UUID userId, @RequestBody TaskPatchDTO patch,
+                                                      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        logger.info("Patching task with ID: {} in project ID: {} by user ID: {}", id, projectId, userId);
+        Task patchedTask = taskService.patchTask(projectId, id, patch, userId, ETags.parseVersion(ifMatch));
+        return ResponseEntity.ok().eTag(taskETag(patchedTask)).body(ApiResponse.success("Task updated successfully", taskService.convertToDTO(patchedTask, patchedTask.getAssigner())));
     }
 
     @DeleteMapping("/projects/{projectId}/tasks/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteTask(@PathVariable UUID projectId, @PathVariable UUID id, @RequestAttribute("userId") UUID userId) {
-        logger.info("Deleting task with ID: " + id + " in project ID: " + projectId + " by user ID: " + userId);
+        logger.info("Deleting task with ID: {} in project ID: {} by user ID: {}", id, projectId, userId);
         taskService.deleteTask(id, userId);
         return ResponseEntity.ok(ApiResponse.success("Task deleted successfully", null));
     }
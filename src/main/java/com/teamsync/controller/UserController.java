@@ -1,12 +1,21 @@
 package com.teamsync.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.teamsync.dto.PaginatedResponse;
+import com.teamsync.dto.UserResponseDTO;
 import com.teamsync.entity.User;
 import com.teamsync.exceptions.ResourceNotFoundException;
 import com.teamsync.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.UUID;
 
 // REST controller for user-related endpoints
@@ -14,11 +23,15 @@ import java.util.UUID;
 @RequestMapping("/api/users")
 public class UserController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final UserService userService;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public UserController(UserService userService) {
+    public UserController(UserService userService, ObjectMapper objectMapper) {
         this.userService = userService;
+        this.objectMapper = objectMapper.copy().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
 
     // Create a new user
@@ -34,10 +47,26 @@ public class UserController {
             .orElseThrow(() -> new ResourceNotFoundException("User not found with id " + id));
     }
 
-    // Retrieve all users
+    // Retrieve users one page at a time
     @GetMapping({"", "/"})
-    public List<User> getAllUsers() {
-        return userService.getAllUsers();
+    public PaginatedResponse<UserResponseDTO> getAllUsers(@RequestParam(defaultValue = "0") int page,
+                                                          @RequestParam(defaultValue = "20") int size) {
+        Page<UserResponseDTO> users = userService.getUsers(page, Math.min(size, MAX_PAGE_SIZE));
+        return new PaginatedResponse<>(users.getContent(), users.getTotalElements(), page, users.getTotalPages(), users.hasNext());
+    }
+
+    // Stream every user as newline-delimited JSON for clients sending Accept: application/x-ndjson
+    @GetMapping(value = {"", "/"}, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllUsers() {
+        StreamingResponseBody body = outputStream -> userService.streamUsers(user -> {
+            try {
+                objectMapper.writeValue(outputStream, user);
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
     }
 
     // Update a user
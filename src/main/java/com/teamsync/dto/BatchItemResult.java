@@ -0,0 +1,33 @@
+package com.teamsync.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Data;
+
+// Outcome of a single item in a batch request, reported by its position in the request body
+@Data
+public class BatchItemResult<T> {
+    private int index;
+    private String status;
+    private String message;
+    private T data;
+
+    public BatchItemResult(int index, String status, String message, T data) {
+        this.index = index;
+        this.status = status;
+        this.message = message;
+        this.data = data;
+    }
+
+    public static <T> BatchItemResult<T> success(int index, T data) {
+        return new BatchItemResult<>(index, "succeeded", null, data);
+    }
+
+    public static <T> BatchItemResult<T> error(int index, String message) {
+        return new BatchItemResult<>(index, "failed", message, null);
+    }
+
+    @JsonIgnore
+    public boolean isSucceeded() {
+        return "succeeded".equals(status);
+    }
+}
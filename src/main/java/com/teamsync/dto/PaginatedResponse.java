@@ -1,13 +1,17 @@
 package com.teamsync.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PaginatedResponse<T> {
     private List<T> items;
-    private long totalCount;
-    private int currentPage;
-    private int totalPages;
+    private Long totalCount;
+    private Integer currentPage;
+    private Integer totalPages;
     private boolean hasNext;
+    private String nextCursor;
 
     public PaginatedResponse(List<T> items, long totalCount, int currentPage, int totalPages, boolean hasNext) {
         this.items = items;
@@ -17,15 +21,25 @@ public class PaginatedResponse<T> {
         this.hasNext = hasNext;
     }
 
+    // Cursor-mode page: no page numbers, total count only when requested
+    public PaginatedResponse(List<T> items, Long totalCount, boolean hasNext, String nextCursor) {
+        this.items = items;
+        this.totalCount = totalCount;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
     // Getters and setters
     public List<T> getItems() { return items; }
     public void setItems(List<T> items) { this.items = items; }
-    public long getTotalCount() { return totalCount; }
-    public void setTotalCount(long totalCount) { this.totalCount = totalCount; }
-    public int getCurrentPage() { return currentPage; }
-    public void setCurrentPage(int currentPage) { this.currentPage = currentPage; }
-    public int getTotalPages() { return totalPages; }
-    public void setTotalPages(int totalPages) { this.totalPages = totalPages; }
+    public Long getTotalCount() { return totalCount; }
+    public void setTotalCount(Long totalCount) { this.totalCount = totalCount; }
+    public Integer getCurrentPage() { return currentPage; }
+    public void setCurrentPage(Integer currentPage) { this.currentPage = currentPage; }
+    public Integer getTotalPages() { return totalPages; }
+    public void setTotalPages(Integer totalPages) { this.totalPages = totalPages; }
     public boolean isHasNext() { return hasNext; }
     public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
-}
\ No newline at end of file
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
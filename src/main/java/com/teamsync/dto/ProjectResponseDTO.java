@@ -1,17 +1,33 @@
 package com.teamsync.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+// memberIds and taskCounts are only present when requested via ?include=
 @Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class ProjectResponseDTO {
     private UUID id;
     private String name;
     private String description;
     private UUID adminId;
     private List<UUID> memberIds;
+    private Map<String, Long> taskCounts;
     private LocalDateTime createdAt;
-}
\ No newline at end of file
+
+    // Used by the JPQL constructor projection in ProjectRepository
+    public ProjectResponseDTO(UUID id, String name, String description, UUID adminId, LocalDateTime createdAt) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.adminId = adminId;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,24 @@
+package com.teamsync.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+public class ProjectTaskStatsDTO {
+    private UUID projectId;
+    private Map<String, Long> counts;
+    private long overdue;
+    private List<AssigneeStats> assignees;
+    private LocalDateTime asOf;
+
+    @Data
+    public static class AssigneeStats {
+        private UUID assigneeId;
+        private Map<String, Long> counts;
+        private long overdue;
+    }
+}
@@ -0,0 +1,15 @@
+package com.teamsync.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// One task in a bulk create request
+@Data
+public class TaskBatchCreateDTO {
+    private UUID assigneeId;
+    private String title;
+    private String description;
+    private LocalDateTime dueDate;
+}
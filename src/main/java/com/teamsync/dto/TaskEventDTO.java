@@ -0,0 +1,35 @@
+package com.teamsync.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+import java.util.UUID;
+
+// Payload of a task change pushed to project subscribers; task is omitted for deletions
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskEventDTO {
+    private String type;
+    private UUID projectId;
+    private UUID taskId;
+    private TaskDTO task;
+
+    public TaskEventDTO(String type, UUID projectId, UUID taskId, TaskDTO task) {
+        this.type = type;
+        this.projectId = projectId;
+        this.taskId = taskId;
+        this.task = task;
+    }
+
+    public static TaskEventDTO created(UUID projectId, TaskDTO task) {
+        return new TaskEventDTO("task.created", projectId, task.getId(), task);
+    }
+
+    public static TaskEventDTO updated(UUID projectId, TaskDTO task) {
+        return new TaskEventDTO("task.updated", projectId, task.getId(), task);
+    }
+
+    public static TaskEventDTO deleted(UUID projectId, UUID taskId) {
+        return new TaskEventDTO("task.deleted", projectId, taskId, null);
+    }
+}
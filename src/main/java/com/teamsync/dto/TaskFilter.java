@@ -0,0 +1,14 @@
+package com.teamsync.dto;
+
+import com.teamsync.entity.Task;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// Optional task list filters, applied in the query rather than in memory
+@Data
+public class TaskFilter {
+    private Task.Status status;
+    private LocalDateTime dueAfter;
+    private LocalDateTime dueBefore;
+}
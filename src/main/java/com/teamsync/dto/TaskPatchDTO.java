@@ -0,0 +1,15 @@
+package com.teamsync.dto;
+
+import com.teamsync.entity.Task;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// Partial task update: only non-null fields are changed
+@Data
+public class TaskPatchDTO {
+    private String title;
+    private String description;
+    private LocalDateTime dueDate;
+    private Task.Status status;
+}
@@ -0,0 +1,13 @@
+package com.teamsync.dto;
+
+import com.teamsync.entity.Task;
+import lombok.Data;
+
+import java.util.UUID;
+
+// One task in a bulk status update request
+@Data
+public class TaskStatusUpdateDTO {
+    private UUID taskId;
+    private Task.Status status;
+}
@@ -0,0 +1,41 @@
+package com.teamsync.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+// Pre-aggregated task counts per project and assignee, maintained by TaskStatsService
+@Entity
+@Table(name = "project_task_stats")
+@IdClass(ProjectTaskStats.Key.class)
+@Data
+public class ProjectTaskStats {
+    @Id
+    @Column(name = "project_id")
+    private UUID projectId;
+
+    @Id
+    @Column(name = "assignee_id")
+    private UUID assigneeId;
+
+    @Column(name = "todo_count", nullable = false)
+    private long todoCount;
+
+    @Column(name = "in_progress_count", nullable = false)
+    private long inProgressCount;
+
+    @Column(name = "done_count", nullable = false)
+    private long doneCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID projectId;
+        private UUID assigneeId;
+    }
+}
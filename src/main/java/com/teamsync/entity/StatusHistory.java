@@ -7,12 +7,14 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "status_history")
+@Table(name = "status_history", indexes = {@Index(name = "idx_status_history_task_timestamp", columnList = "task_id, timestamp")})
 @Data
 public class StatusHistory {
+    // Pooled sequence instead of IDENTITY so Hibernate can assign ids up front and batch the inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id; // Auto-generated ID for JPA
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "status_history_seq")
+    @SequenceGenerator(name = "status_history_seq", sequenceName = "status_history_seq", allocationSize = 50)
+    private Long id;
 
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -31,4 +33,4 @@ public class StatusHistory {
     public StatusHistory() {
         this.timestamp = LocalDateTime.now();
     }
-}
\ No newline at end of file
+}
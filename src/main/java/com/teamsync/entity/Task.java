@@ -1,7 +1,9 @@
 package com.teamsync.entity;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.DynamicUpdate;
 import lombok.Data;
 
 import java.time.LocalDateTime;
@@ -10,7 +12,11 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tasks")
+@DynamicUpdate
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_project_assignee_created", columnList = "project_id, assignee_id, created_at, id"),
+        @Index(name = "idx_tasks_project_due", columnList = "project_id, due_date")
+})
 @Data
 public class Task {
     @Id
@@ -36,6 +42,12 @@ public class Task {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Optimistic lock and ETag source; the column default covers rows created before it existed
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    @JsonIgnore
+    private Long version;
+
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<StatusHistory> statusHistory = new ArrayList<>();
 
@@ -1,9 +1,48 @@
 package com.teamsync.repository;
 
+import com.teamsync.dto.ProjectResponseDTO;
 import com.teamsync.entity.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface ProjectRepository extends JpaRepository<Project, UUID> {
-}
\ No newline at end of file
+
+    @Query("SELECT new com.teamsync.dto.ProjectResponseDTO(p.id, p.name, p.description, p.admin.id, p.createdAt) " +
+           "FROM Project p WHERE p.id = :projectId")
+    Optional<ProjectResponseDTO> findSummaryById(@Param("projectId") UUID projectId);
+
+    @Query("SELECT p.admin.id FROM Project p WHERE p.id = :projectId")
+    Optional<UUID> findAdminIdById(@Param("projectId") UUID projectId);
+
+    @Query(value = "SELECT user_id FROM project_members WHERE project_id = :projectId", nativeQuery = true)
+    List<UUID> findMemberIds(@Param("projectId") UUID projectId);
+
+    @Query("SELECT p.version FROM Project p WHERE p.id = :projectId")
+    Optional<Long> findVersionById(@Param("projectId") UUID projectId);
+
+    // Membership rows are not part of the entity's dirty checking, so writes bump the version explicitly
+    @Modifying
+    @Query("UPDATE Project p SET p.version = p.version + 1 WHERE p.id = :projectId")
+    int incrementVersion(@Param("projectId") UUID projectId);
+
+    // Membership is written directly on the join table so the members collection is never loaded.
+    // The native-spaces hint keeps Hibernate from evicting every second-level cache region on these writes.
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "project_members"))
+    @Query(value = "INSERT INTO project_members (project_id, user_id) VALUES (:projectId, :userId)", nativeQuery = true)
+    int addMember(@Param("projectId") UUID projectId, @Param("userId") UUID userId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "project_members"))
+    @Query(value = "DELETE FROM project_members WHERE project_id = :projectId AND user_id = :userId", nativeQuery = true)
+    int removeMember(@Param("projectId") UUID projectId, @Param("userId") UUID userId);
+}
@@ -0,0 +1,56 @@
+package com.teamsync.repository;
+
+import com.teamsync.entity.ProjectTaskStats;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ProjectTaskStatsRepository extends JpaRepository<ProjectTaskStats, ProjectTaskStats.Key> {
+
+    List<ProjectTaskStats> findByProjectId(UUID projectId);
+
+    // Add the given deltas to one (project, assignee) row, creating it on first use.
+    // Native writes declare the table they touch so Hibernate does not evict every second-level cache region.
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "project_task_stats"))
+    @Query(value = "INSERT INTO project_task_stats (project_id, assignee_id, todo_count, in_progress_count, done_count) " +
+                   "VALUES (:projectId, :assigneeId, :todo, :inProgress, :done) " +
+                   "ON CONFLICT (project_id, assignee_id) DO UPDATE SET " +
+                   "todo_count = project_task_stats.todo_count + EXCLUDED.todo_count, " +
+                   "in_progress_count = project_task_stats.in_progress_count + EXCLUDED.in_progress_count, " +
+                   "done_count = project_task_stats.done_count + EXCLUDED.done_count",
+           nativeQuery = true)
+    void adjust(@Param("projectId") UUID projectId, @Param("assigneeId") UUID assigneeId,
+                @Param("todo") long todo, @Param("inProgress") long inProgress, @Param("done") long done);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "project_task_stats"))
+    @Query(value = "DELETE FROM project_task_stats WHERE project_id = :projectId", nativeQuery = true)
+    void deleteByProjectIdInBulk(@Param("projectId") UUID projectId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "project_task_stats"))
+    @Query(value = "DELETE FROM project_task_stats", nativeQuery = true)
+    void deleteAllInBulk();
+
+    // Recompute every row from the tasks table
+    @Modifying
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "project_task_stats"))
+    @Query(value = "INSERT INTO project_task_stats (project_id, assignee_id, todo_count, in_progress_count, done_count) " +
+                   "SELECT project_id, assignee_id, " +
+                   "COUNT(*) FILTER (WHERE status = 'TODO'), " +
+                   "COUNT(*) FILTER (WHERE status = 'IN_PROGRESS'), " +
+                   "COUNT(*) FILTER (WHERE status = 'DONE') " +
+                   "FROM tasks GROUP BY project_id, assignee_id",
+           nativeQuery = true)
+    int rebuildFromTasks();
+}
@@ -0,0 +1,14 @@
+package com.teamsync.repository;
+
+import com.teamsync.entity.StatusHistory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface StatusHistoryRepository extends JpaRepository<StatusHistory, Long> {
+    Page<StatusHistory> findByTaskId(UUID taskId, Pageable pageable);
+}
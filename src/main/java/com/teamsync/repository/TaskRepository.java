@@ -1,15 +1,82 @@
 package com.teamsync.repository;
 
 import com.teamsync.entity.Task;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+// Task listings are built from TaskSpecifications
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID> {
-    Page<Task> findByAssigneeId(UUID assigneeId, Pageable pageable);
-    long countByAssigneeId(UUID assigneeId);
-}
\ No newline at end of file
+public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task> {
+
+    // Assignee and assigner are joined in so TaskDTO mapping does not lazy-load them row by row
+    @Override
+    @EntityGraph(attributePaths = {"assignee", "assigner"})
+    Page<Task> findAll(Specification<Task> spec, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"assignee", "assigner"})
+    Optional<Task> findWithUsersById(UUID id);
+
+    @EntityGraph(attributePaths = {"assignee", "assigner"})
+    List<Task> findWithUsersByIdIn(Collection<UUID> ids);
+
+    // Row lock for partial updates: concurrent PATCHes queue on the row instead of failing on the version check
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Task t WHERE t.id = :id")
+    Optional<Task> findByIdForUpdate(@Param("id") UUID id);
+
+    boolean existsByIdAndProjectId(UUID id, UUID projectId);
+
+    // Everything the single-task ETag covers: the task version plus the user fields embedded in TaskDTO
+    @Query("SELECT t.version AS version, " +
+           "a.id AS assigneeId, a.email AS assigneeEmail, a.firstName AS assigneeFirstName, a.lastName AS assigneeLastName, " +
+           "s.id AS assignerId, s.email AS assignerEmail, s.firstName AS assignerFirstName, s.lastName AS assignerLastName " +
+           "FROM Task t LEFT JOIN t.assignee a LEFT JOIN t.assigner s WHERE t.id = :id AND t.project.id = :projectId")
+    Optional<TaskValidator> findValidator(@Param("id") UUID id, @Param("projectId") UUID projectId);
+
+    interface TaskValidator {
+        long getVersion();
+        UUID getAssigneeId();
+        String getAssigneeEmail();
+        String getAssigneeFirstName();
+        String getAssigneeLastName();
+        UUID getAssignerId();
+        String getAssignerEmail();
+        String getAssignerFirstName();
+        String getAssignerLastName();
+    }
+
+    @Query("SELECT t.status AS status, COUNT(t) AS count FROM Task t WHERE t.project.id = :projectId GROUP BY t.status")
+    List<StatusCount> countByStatusForProject(@Param("projectId") UUID projectId);
+
+    // Overdue depends on the clock rather than on writes, so it is counted on read from the (project_id, due_date) index
+    @Query("SELECT t.assignee.id AS assigneeId, COUNT(t) AS count FROM Task t " +
+           "WHERE t.project.id = :projectId AND t.dueDate < :now AND t.status <> :done GROUP BY t.assignee.id")
+    List<AssigneeCount> countOverdueByAssignee(@Param("projectId") UUID projectId,
+                                               @Param("now") LocalDateTime now,
+                                               @Param("done") Task.Status done);
+
+    interface AssigneeCount {
+        UUID getAssigneeId();
+        long getCount();
+    }
+
+    interface StatusCount {
+        Task.Status getStatus();
+        long getCount();
+    }
+}
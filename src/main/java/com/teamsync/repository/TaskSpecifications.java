@@ -0,0 +1,56 @@
+package com.teamsync.repository;
+
+import com.teamsync.dto.TaskCursor;
+import com.teamsync.dto.TaskFilter;
+import com.teamsync.entity.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Query building blocks for task listings; all predicates are pushed down into SQL
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    // Project + assignee scope with optional filters, matching the (project_id, assignee_id, created_at) index
+    public static Specification<Task> assignedInProject(UUID projectId, UUID assigneeId, TaskFilter filter) {
+        Specification<Task> spec = inProject(projectId).and(assignedTo(assigneeId));
+        if (filter != null) {
+            if (filter.getStatus() != null) spec = spec.and(hasStatus(filter.getStatus()));
+            if (filter.getDueAfter() != null) spec = spec.and(dueAfter(filter.getDueAfter()));
+            if (filter.getDueBefore() != null) spec = spec.and(dueBefore(filter.getDueBefore()));
+        }
+        return spec;
+    }
+
+    public static Specification<Task> inProject(UUID projectId) {
+        return (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId);
+    }
+
+    public static Specification<Task> assignedTo(UUID assigneeId) {
+        return (root, query, cb) -> cb.equal(root.get("assignee").get("id"), assigneeId);
+    }
+
+    public static Specification<Task> hasStatus(Task.Status status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Task> dueAfter(LocalDateTime dueAfter) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueDate"), dueAfter);
+    }
+
+    public static Specification<Task> dueBefore(LocalDateTime dueBefore) {
+        return (root, query, cb) -> cb.lessThan(root.get("dueDate"), dueBefore);
+    }
+
+    // Keyset seek: rows strictly after the cursor in (createdAt DESC, id DESC) order
+    public static Specification<Task> before(TaskCursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), cursor.getCreatedAt()),
+                cb.and(
+                        cb.equal(root.get("createdAt"), cursor.getCreatedAt()),
+                        cb.lessThan(root.<UUID>get("id"), cursor.getId())));
+    }
+}
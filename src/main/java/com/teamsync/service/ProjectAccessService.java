@@ -0,0 +1,100 @@
+package com.teamsync.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.teamsync.exceptions.ResourceNotFoundException;
+import com.teamsync.repository.ProjectRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+
+// Cached admin/member lookups for project-scoped authorization checks.
+// Hit and miss counts are published as cache.* meters tagged cache=projectAccess.
+@Service
+public class ProjectAccessService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectAccessService.class);
+    private final ProjectRepository projectRepository;
+    private final Cache<UUID, ProjectAccess> cache;
+
+    @Autowired
+    public ProjectAccessService(ProjectRepository projectRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${teamsync.access-cache.max-size:10000}") long maxSize,
+                                @Value("${teamsync.access-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.projectRepository = projectRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "projectAccess");
+    }
+
+    public boolean isAdmin(UUID projectId, UUID userId) {
+        return getAccess(projectId).getAdminId().equals(userId);
+    }
+
+    public boolean isMember(UUID projectId, UUID userId) {
+        return getAccess(projectId).getMemberIds().contains(userId);
+    }
+
+    // Admins and members may create and list tasks
+    public boolean canContribute(UUID projectId, UUID userId) {
+        ProjectAccess access = getAccess(projectId);
+        return access.getAdminId().equals(userId) || access.getMemberIds().contains(userId);
+    }
+
+    // Drop the cached entry now and again once the surrounding transaction commits,
+    // so a concurrent reload cannot cache the pre-commit membership
+    public void invalidate(UUID projectId) {
+        cache.invalidate(projectId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(projectId);
+                }
+            });
+        }
+    }
+
+    private ProjectAccess getAccess(UUID projectId) {
+        ProjectAccess access = cache.get(projectId, this::load);
+        if (access == null) {
+            throw new ResourceNotFoundException("Project not found with id: " + projectId);
+        }
+        return access;
+    }
+
+    private ProjectAccess load(UUID projectId) {
+        logger.debug("Loading access list for project ID: {}", projectId);
+        return projectRepository.findAdminIdById(projectId)
+                .map(adminId -> new ProjectAccess(adminId, Set.copyOf(projectRepository.findMemberIds(projectId))))
+                .orElse(null);
+    }
+
+    // Immutable snapshot of who may act on a project
+    static final class ProjectAccess {
+        private final UUID adminId;
+        private final Set<UUID> memberIds;
+
+        ProjectAccess(UUID adminId, Set<UUID> memberIds) {
+            this.adminId = adminId;
+            this.memberIds = memberIds;
+        }
+
+        UUID getAdminId() { return adminId; }
+        Set<UUID> getMemberIds() { return memberIds; }
+    }
+}
@@ -0,0 +1,95 @@
+package com.teamsync.service;
+
+import com.teamsync.entity.RefreshToken;
+import com.teamsync.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+// Long-lived opaque refresh tokens. Each one is single use: refreshing deletes it and the caller
+// is issued a new one, so a stolen token stops working once the legitimate client refreshes.
+@Service
+@Transactional
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final long ttlDays;
+
+    @Autowired
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               @Value("${teamsync.refresh-token.ttl-days:30}") long ttlDays) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.ttlDays = ttlDays;
+    }
+
+    // Create a refresh token for the user and return its raw value (never stored)
+    public String issue(UUID userId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setTokenHash(digest(rawToken));
+        refreshToken.setUserId(userId);
+        refreshToken.setExpiresAt(LocalDateTime.now().plusDays(ttlDays));
+        refreshTokenRepository.save(refreshToken);
+        return rawToken;
+    }
+
+    // Use up a refresh token: returns its user if the token exists, has not expired and was not used concurrently
+    public Optional<UUID> consume(String rawToken) {
+        String hash = digest(rawToken);
+        Optional<RefreshToken> refreshToken = refreshTokenRepository.findByTokenHash(hash);
+        if (refreshToken.isEmpty() || refreshTokenRepository.deleteByTokenHash(hash) == 0) {
+            return Optional.empty();
+        }
+        if (refreshToken.get().getExpiresAt().isBefore(LocalDateTime.now())) {
+            logger.debug("Expired refresh token for user ID: {}", refreshToken.get().getUserId());
+            return Optional.empty();
+        }
+        return Optional.of(refreshToken.get().getUserId());
+    }
+
+    public void revoke(String rawToken) {
+        refreshTokenRepository.deleteByTokenHash(digest(rawToken));
+    }
+
+    // Sign the user out of every device (logout-all, account deletion); access tokens still run to their expiry
+    public void revokeAll(UUID userId) {
+        int revoked = refreshTokenRepository.deleteByUserId(userId);
+        logger.info("Revoked {} refresh tokens for user ID: {}", revoked, userId);
+    }
+
+    @Scheduled(fixedDelayString = "${teamsync.refresh-token.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int purged = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            logger.info("Purged {} expired refresh tokens", purged);
+        }
+    }
+
+    private static String digest(String rawToken) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.teamsync.service;
+
+import com.teamsync.entity.StatusHistory;
+import com.teamsync.entity.Task;
+import com.teamsync.repository.StatusHistoryRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// Records task status transitions off the request path. Events are queued once the task update
+// commits and a background writer persists them in batches. If the queue is full the calling
+// thread writes a batch itself; whatever is still queued at shutdown is flushed before the
+// context closes.
+@Service
+public class StatusHistoryRecorder {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatusHistoryRecorder.class);
+
+    private final StatusHistoryRepository statusHistoryRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<StatusChange> queue;
+    private final int batchSize;
+    private Thread writer;
+    private volatile boolean running;
+
+    @Autowired
+    public StatusHistoryRecorder(StatusHistoryRepository statusHistoryRepository,
+                                 EntityManager entityManager,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${teamsync.status-history.queue-capacity:10000}") int queueCapacity,
+                                 @Value("${teamsync.status-history.batch-size:50}") int batchSize) {
+        this.statusHistoryRepository = statusHistoryRepository;
+        this.entityManager = entityManager;
+        // Batches written by a caller run from afterCommit, where the caller's transaction is already
+        // finished; joining it would flush nothing, so every write gets its own transaction
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        writer = new Thread(this::runWriter, "status-history-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        List<StatusChange> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            logger.info("Flushing {} queued status changes before shutdown", remaining.size());
+            for (int from = 0; from < remaining.size(); from += batchSize) {
+                write(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+            }
+        }
+    }
+
+    // Queue a transition; inside a transaction it is only queued once that transaction commits
+    public void record(UUID taskId, Task.Status status, UUID updatedBy) {
+        StatusChange change = new StatusChange(taskId, status.toString(), updatedBy, LocalDateTime.now());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(change);
+                }
+            });
+        } else {
+            enqueue(change);
+        }
+    }
+
+    private void enqueue(StatusChange change) {
+        while (!queue.offer(change)) {
+            // Back-pressure: the caller pays for one batch instead of dropping audit records
+            List<StatusChange> batch = new ArrayList<>(batchSize);
+            queue.drainTo(batch, batchSize);
+            writeOutsideRequest(batch);
+        }
+    }
+
+    // In afterCommit the caller still holds its own connection. Under a request connection cap
+    // (BoundedDataSource) a second request connection would wait for a permit the saturated caller
+    // may be blocking, so the batch is written as background work, which the cap leaves room for.
+    private void writeOutsideRequest(List<StatusChange> batch) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        RequestContextHolder.resetRequestAttributes();
+        try {
+            write(batch);
+        } finally {
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+        }
+    }
+
+    private void runWriter() {
+        List<StatusChange> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                StatusChange first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                logger.error("Status history writer failed", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<StatusChange> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(batch));
+        } catch (RuntimeException e) {
+            // Most likely a task deleted after its update; retry one by one so the rest of the batch survives
+            logger.warn("Batch write of {} status changes failed, retrying individually: {}", batch.size(), e.getMessage());
+            for (StatusChange change : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> persist(List.of(change)));
+                } catch (RuntimeException ex) {
+                    logger.warn("Dropping status change for task ID: {}: {}", change.taskId, ex.getMessage());
+                }
+            }
+        }
+    }
+
+    private void persist(List<StatusChange> batch) {
+        List<StatusHistory> rows = new ArrayList<>(batch.size());
+        for (StatusChange change : batch) {
+            StatusHistory history = new StatusHistory();
+            history.setTask(entityManager.getReference(Task.class, change.taskId));
+            history.setStatus(change.status);
+            history.setUpdatedBy(change.updatedBy);
+            history.setTimestamp(change.timestamp);
+            rows.add(history);
+        }
+        statusHistoryRepository.saveAll(rows);
+    }
+
+    private static final class StatusChange {
+        private final UUID taskId;
+        private final String status;
+        private final UUID updatedBy;
+        private final LocalDateTime timestamp;
+
+        private StatusChange(UUID taskId, String status, UUID updatedBy, LocalDateTime timestamp) {
+            this.taskId = taskId;
+            this.status = status;
+            this.updatedBy = updatedBy;
+            this.timestamp = timestamp;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.teamsync.service;
+
+import com.teamsync.dto.TaskEventDTO;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+// Fan-out of task changes to SSE subscribers, grouped by project. Idle subscribers hold no thread:
+// each one is an async SseEmitter plus a small bounded buffer. Publishing only enqueues; a shared
+// dispatcher pool does the writes, with at most one write in flight per subscriber. A subscriber whose
+// buffer overflows, or whose write stalls past the write timeout, is disconnected and is expected to
+// reconnect and re-read the board. Only dispatcher threads touch an emitter: its send and complete share
+// one monitor, so completing it from a publisher or the scheduler would block behind a stalled write.
+@Service
+public class TaskEventHub {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskEventHub.class);
+
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService dispatcher;
+    // Heartbeats and stalled-write checks run here, never on the dispatcher, so they keep running
+    // while every dispatcher thread is stuck in a write
+    private final ScheduledExecutorService scheduler;
+    private final long emitterTimeoutMillis;
+    private final int bufferSize;
+    private final long writeTimeoutNanos;
+
+    public TaskEventHub(@Value("${teamsync.events.dispatcher-threads:4}") int dispatcherThreads,
+                        @Value("${teamsync.events.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+                        @Value("${teamsync.events.subscriber-buffer:256}") int bufferSize,
+                        @Value("${teamsync.events.heartbeat-ms:30000}") long heartbeatMillis,
+                        @Value("${teamsync.events.write-timeout-ms:10000}") long writeTimeoutMillis) {
+        AtomicInteger threadCount = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(dispatcherThreads, runnable -> {
+            Thread thread = new Thread(runnable, "task-events-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-events-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.bufferSize = bufferSize;
+        this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMillis);
+        scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        long checkMillis = Math.max(writeTimeoutMillis / 2, 1);
+        scheduler.scheduleWithFixedDelay(this::evictStalled, checkMillis, checkMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(UUID projectId) {
+        SseEmitter emitter = createEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(projectId, emitter);
+        // The add happens inside compute so it cannot land in a set that remove() is dropping from the map
+        subscribers.compute(projectId, (id, projectSubscribers) -> {
+            Set<Subscriber> target = projectSubscribers != null ? projectSubscribers : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        return emitter;
+    }
+
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    // Publish once the current transaction commits; rolled-back changes are never sent
+    public void publishAfterCommit(TaskEventDTO event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(event);
+                }
+            });
+        } else {
+            publish(event);
+        }
+    }
+
+    public void publish(TaskEventDTO event) {
+        Set<Subscriber> projectSubscribers = subscribers.get(event.getProjectId());
+        if (projectSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : projectSubscribers) {
+            if (subscriber.buffer.offer(event)) {
+                subscriber.scheduleDrain();
+            } else {
+                logger.warn("Disconnecting slow subscriber on project ID: {}", event.getProjectId());
+                subscriber.disconnect(null);
+            }
+        }
+    }
+
+    // Comment-only heartbeat so dead connections are noticed and proxies keep idle streams open. It goes
+    // through the subscriber's drain like any event, so a stalled subscriber never holds more than one thread.
+    void heartbeat() {
+        forEachSubscriber(subscriber -> {
+            subscriber.heartbeatDue = true;
+            subscriber.scheduleDrain();
+        });
+    }
+
+    // A write blocked past the timeout means the client stopped reading; drop it so its buffer and
+    // heartbeats stop queueing work. The blocked write itself returns once the container's socket
+    // write timeout fires, and the dispatcher completes the emitter then.
+    void evictStalled() {
+        long now = System.nanoTime();
+        forEachSubscriber(subscriber -> {
+            long started = subscriber.sendStartedNanos;
+            if (started != 0 && now - started > writeTimeoutNanos) {
+                logger.warn("Disconnecting stalled subscriber on project ID: {}", subscriber.projectId);
+                subscriber.disconnect(new IOException("SSE write timed out"));
+            }
+        });
+    }
+
+    private void forEachSubscriber(Consumer<Subscriber> action) {
+        subscribers.values().forEach(projectSubscribers -> projectSubscribers.forEach(action));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        dispatcher.shutdownNow();
+        subscribers.values().forEach(projectSubscribers -> projectSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        subscribers.clear();
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.projectId, (id, projectSubscribers) -> {
+            projectSubscribers.remove(subscriber);
+            return projectSubscribers.isEmpty() ? null : projectSubscribers;
+        });
+    }
+
+    private final class Subscriber {
+        private final UUID projectId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<TaskEventDTO> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean heartbeatDue;
+        private volatile boolean closed;
+        private volatile Throwable closeError;
+        private volatile boolean completed;
+        // System.nanoTime() when the in-flight write started, 0 while idle
+        private volatile long sendStartedNanos;
+
+        private Subscriber(UUID projectId, SseEmitter emitter) {
+            this.projectId = projectId;
+            this.emitter = emitter;
+        }
+
+        // At most one drain task per subscriber is in flight, which keeps events in order. A closed
+        // subscriber gets one more drain, which completes the emitter.
+        private void scheduleDrain() {
+            if (!completed && draining.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                if (closed) {
+                    complete();
+                    return;
+                }
+                TaskEventDTO event;
+                while (!closed && (event = buffer.poll()) != null) {
+                    if (!send(SseEmitter.event().name(event.getType()).data(event))) {
+                        return;
+                    }
+                }
+                if (!closed && heartbeatDue) {
+                    heartbeatDue = false;
+                    if (!send(SseEmitter.event().comment("keep-alive"))) {
+                        return;
+                    }
+                }
+            } finally {
+                draining.set(false);
+            }
+            if (closed || !buffer.isEmpty() || heartbeatDue) {
+                scheduleDrain();
+            }
+        }
+
+        // Only called from drain(), so writes to one emitter never overlap
+        private boolean send(SseEmitter.SseEventBuilder event) {
+            sendStartedNanos = System.nanoTime();
+            try {
+                emitter.send(event);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                disconnect(e);
+                return false;
+            } finally {
+                sendStartedNanos = 0;
+            }
+        }
+
+        // Safe from any thread: marks the subscriber closed and leaves the emitter to the dispatcher. If a
+        // drain is in flight it reschedules itself on exit and the follow-up drain completes the emitter.
+        private void disconnect(Throwable error) {
+            if (closed) {
+                return;
+            }
+            closeError = error;
+            closed = true;
+            remove(this);
+            buffer.clear();
+            scheduleDrain();
+        }
+
+        // Only called from drain(), after any write to this emitter has returned
+        private void complete() {
+            completed = true;
+            if (closeError != null) {
+                emitter.completeWithError(closeError);
+            } else {
+                emitter.complete();
+            }
+        }
+    }
+}
@@ -1,42 +1,81 @@
 package com.teamsync.service;
 
+import com.teamsync.dto.BatchItemResult;
+import com.teamsync.dto.ProjectResponseDTO;
+import com.teamsync.dto.TaskBatchCreateDTO;
+import com.teamsync.dto.TaskCursor;
 import com.teamsync.dto.TaskDTO;
+import com.teamsync.dto.TaskEventDTO;
+import com.teamsync.dto.TaskFilter;
+import com.teamsync.dto.TaskPatchDTO;
+import com.teamsync.dto.TaskStatusUpdateDTO;
 import com.teamsync.entity.Project;
 import com.teamsync.entity.Task;
 import com.teamsync.entity.User;
+import com.teamsync.exceptions.PreconditionFailedException;
 import com.teamsync.exceptions.ResourceNotFoundException;
 import com.teamsync.repository.ProjectRepository;
+import com.teamsync.repository.StatusHistoryRepository;
 import com.teamsync.repository.TaskRepository;
+import com.teamsync.repository.TaskSpecifications;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
-import java.util.logging.Logger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("teamsync.service")
 @Transactional
 public class TaskService {
-    private static final Logger logger = Logger.getLogger(TaskService.class.getName());
+    private static final Logger logger = LoggerFactory.getLogger(TaskService.class);
     private final TaskRepository taskRepository;
     private final UserService userService;
     private final ProjectRepository projectRepository;
+    private final ProjectAccessService projectAccessService;
+    private final StatusHistoryRepository statusHistoryRepository;
+    private final StatusHistoryRecorder statusHistoryRecorder;
+    private final TaskStatsService taskStatsService;
+    private final TaskEventHub taskEventHub;
+
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
 
     @Autowired
-    public TaskService(TaskRepository taskRepository, UserService userService, ProjectRepository projectRepository) {
+    public TaskService(TaskRepository taskRepository, UserService userService, ProjectRepository projectRepository,
+                       ProjectAccessService projectAccessService, StatusHistoryRepository statusHistoryRepository,
+                       StatusHistoryRecorder statusHistoryRecorder, TaskStatsService taskStatsService,
+                       TaskEventHub taskEventHub) {
         this.taskRepository = taskRepository;
         this.userService = userService;
         this.projectRepository = projectRepository;
+        this.projectAccessService = projectAccessService;
+        this.statusHistoryRepository = statusHistoryRepository;
+        this.statusHistoryRecorder = statusHistoryRecorder;
+        this.taskStatsService = taskStatsService;
+        this.taskEventHub = taskEventHub;
     }
 
     public Project createProject(UUID adminId, Project project) {
-        logger.info("Creating project for admin ID: " + adminId);
+        logger.info("Creating project for admin ID: {}", adminId);
         User admin = userService.getUserById(adminId)
                 .orElseThrow(() -> new ResourceNotFoundException("Admin not found with id: " + adminId));
         project.setAdmin(admin);
@@ -48,74 +87,105 @@ public class TaskService {
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + id));
     }
 
+    // Project read model: one projection query, plus one aggregate query per requested expansion
+    public ProjectResponseDTO getProjectSummary(UUID projectId, Set<String> include) {
+        logger.debug("Fetching project summary with ID: {} (include={})", projectId, include);
+        ProjectResponseDTO dto = projectRepository.findSummaryById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
+        for (String expansion : include) {
+            switch (expansion) {
+                case "members":
+                    dto.setMemberIds(projectRepository.findMemberIds(projectId));
+                    break;
+                case "taskCounts":
+                    Map<String, Long> counts = new LinkedHashMap<>();
+                    for (Task.Status status : Task.Status.values()) {
+                        counts.put(status.toString(), 0L);
+                    }
+                    taskRepository.countByStatusForProject(projectId)
+                            .forEach(row -> counts.put(row.getStatus().toString(), row.getCount()));
+                    dto.setTaskCounts(counts);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown include value: " + expansion);
+            }
+        }
+        return dto;
+    }
+
     public void inviteMember(UUID projectId, UUID adminId, UUID userId) {
-        logger.info("Inviting member with ID: " + userId + " to project ID: " + projectId);
-        Project project = getProjectById(projectId);
-        if (!project.getAdmin().getId().equals(adminId)) {
+        logger.info("Inviting member with ID: {} to project ID: {}", userId, projectId);
+        if (!projectAccessService.isAdmin(projectId, adminId)) {
             throw new ResourceNotFoundException("Only the admin can invite members");
         }
         if (adminId.equals(userId)) {
             throw new ResourceNotFoundException("Admin cannot invite themselves");
         }
-        User user = userService.getUserById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-        if (project.getMembers().contains(user)) {
+        if (!userService.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+        if (projectAccessService.isMember(projectId, userId)) {
             throw new ResourceNotFoundException("User is already a member");
         }
-        project.getMembers().add(user);
-        projectRepository.save(project);
+        projectRepository.addMember(projectId, userId);
+        projectRepository.incrementVersion(projectId);
+        projectAccessService.invalidate(projectId);
     }
 
     public void acceptInvitation(UUID projectId, UUID userId) {
-        logger.info("User with ID: " + userId + " accepting invitation for project ID: " + projectId);
-        Project project = getProjectById(projectId);
-        User user = userService.getUserById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-        if (!project.getMembers().contains(user)) {
+        logger.info("User with ID: {} accepting invitation for project ID: {}", userId, projectId);
+        if (!userService.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+        if (!projectAccessService.isMember(projectId, userId)) {
             throw new ResourceNotFoundException("User not invited to this project");
         }
-        projectRepository.save(project);
     }
 
     public void rejectInvitation(UUID projectId, UUID userId) {
-        logger.info("User with ID: " + userId + " rejecting invitation for project ID: " + projectId);
-        Project project = getProjectById(projectId);
-        User user = userService.getUserById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-        if (project.getMembers().contains(user)) {
-            project.getMembers().remove(user);
-            projectRepository.save(project);
+        logger.info("User with ID: {} rejecting invitation for project ID: {}", userId, projectId);
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Project not found with id: " + projectId);
+        }
+        if (!userService.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+        if (projectRepository.removeMember(projectId, userId) > 0) {
+            projectRepository.incrementVersion(projectId);
+            projectAccessService.invalidate(projectId);
         }
     }
 
     public void removeMember(UUID projectId, UUID adminId, UUID userId) {
-        logger.info("Removing member with ID: " + userId + " from project ID: " + projectId);
-        Project project = getProjectById(projectId);
-        if (!project.getAdmin().getId().equals(adminId)) {
+        logger.info("Removing member with ID: {} from project ID: {}", userId, projectId);
+        if (!projectAccessService.isAdmin(projectId, adminId)) {
             throw new ResourceNotFoundException("Only the admin can remove members");
         }
         if (adminId.equals(userId)) {
             throw new ResourceNotFoundException("Admin cannot remove themselves");
         }
-        User user = userService.getUserById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-        if (project.getMembers().contains(user)) {
-            project.getMembers().remove(user);
-            projectRepository.save(project);
+        if (!userService.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+        if (projectRepository.removeMember(projectId, userId) > 0) {
+            projectRepository.incrementVersion(projectId);
+            projectAccessService.invalidate(projectId);
         }
     }
 
     public void deleteProject(UUID projectId, UUID adminId) {
-        logger.info("Deleting project with ID: " + projectId + " by admin ID: " + adminId);
+        logger.info("Deleting project with ID: {} by admin ID: {}", projectId, adminId);
         Project project = getProjectById(projectId);
         if (!project.getAdmin().getId().equals(adminId)) {
             throw new ResourceNotFoundException("Only the admin can delete this project");
         }
         projectRepository.delete(project);
+        taskStatsService.projectDeleted(projectId);
+        projectAccessService.invalidate(projectId);
     }
 
     public TaskDTO createTask(UUID assignerId, UUID assigneeId, UUID projectId, Task task) {
-        logger.info("Creating task for assigner ID: " + assignerId + ", assignee ID: " + assigneeId + ", project ID: " + projectId);
+        logger.info("Creating task for assigner ID: {}, assignee ID: {}, project ID: {}", assignerId, assigneeId, projectId);
         if (task.getStatus() == null) {
             task.setStatus(Task.Status.TODO);
         }
@@ -123,10 +193,10 @@ public class TaskService {
                 .orElseThrow(() -> new ResourceNotFoundException("Assigner not found with id: " + assignerId));
         User assignee = userService.getUserById(assigneeId)
                 .orElseThrow(() -> new ResourceNotFoundException("Assignee not found with id: " + assigneeId));
-        Project project = getProjectById(projectId);
-        if (!project.getAdmin().getId().equals(assignerId) && !project.getMembers().stream().anyMatch(m -> m.getId().equals(assignerId))) {
+        if (!projectAccessService.canContribute(projectId, assignerId)) {
             throw new ResourceNotFoundException("User not authorized to create tasks in this project");
         }
+        Project project = projectRepository.getReferenceById(projectId);
         if (assignerId.equals(assigneeId)) {
             throw new ResourceNotFoundException("Assigner cannot be the same as assignee");
         }
@@ -135,52 +205,257 @@ public class TaskService {
         task.setProject(project);
         task.setCreatedAt(LocalDateTime.now());
         Task savedTask = taskRepository.save(task);
-        project.getTasks().add(savedTask);
-        projectRepository.save(project);
-        return convertToDTO(savedTask, assigner);
+        taskStatsService.taskCreated(projectId, assigneeId, savedTask.getStatus());
+        TaskDTO dto = convertToDTO(savedTask, assigner);
+        taskEventHub.publishAfterCommit(TaskEventDTO.created(projectId, dto));
+        return dto;
+    }
+
+    // Bulk create: authorization and user lookups happen once per batch, inserts go out as JDBC batches
+    public List<BatchItemResult<TaskDTO>> createTasks(UUID assignerId, UUID projectId, List<TaskBatchCreateDTO> items) {
+        logger.info("Creating {} tasks for assigner ID: {}, project ID: {}", items.size(), assignerId, projectId);
+        checkBatchSize(items);
+        User assigner = userService.getUserById(assignerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Assigner not found with id: " + assignerId));
+        if (!projectAccessService.canContribute(projectId, assignerId)) {
+            throw new ResourceNotFoundException("User not authorized to create tasks in this project");
+        }
+        Project project = projectRepository.getReferenceById(projectId);
+        Set<UUID> assigneeIds = items.stream()
+                .filter(Objects::nonNull)
+                .map(TaskBatchCreateDTO::getAssigneeId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, User> assignees = userService.getUsersByIds(assigneeIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<BatchItemResult<TaskDTO>> results = new ArrayList<>(Collections.nCopies(items.size(), null));
+        List<Task> tasks = new ArrayList<>();
+        List<Integer> taskIndexes = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < items.size(); i++) {
+            TaskBatchCreateDTO item = items.get(i);
+            if (item == null || item.getTitle() == null || item.getTitle().trim().isEmpty()) {
+                results.set(i, BatchItemResult.error(i, "Task title cannot be empty"));
+                continue;
+            }
+            User assignee = item.getAssigneeId() != null ? assignees.get(item.getAssigneeId()) : null;
+            if (assignee == null) {
+                results.set(i, BatchItemResult.error(i, "Assignee not found with id: " + item.getAssigneeId()));
+                continue;
+            }
+            if (assignerId.equals(assignee.getId())) {
+                results.set(i, BatchItemResult.error(i, "Assigner cannot be the same as assignee"));
+                continue;
+            }
+            Task task = new Task();
+            task.setTitle(item.getTitle());
+            task.setDescription(item.getDescription());
+            task.setDueDate(item.getDueDate());
+            task.setStatus(Task.Status.TODO);
+            task.setAssignee(assignee);
+            task.setAssigner(assigner);
+            task.setProject(project);
+            task.setCreatedAt(now);
+            tasks.add(task);
+            taskIndexes.add(i);
+        }
+
+        List<Task> savedTasks = taskRepository.saveAll(tasks);
+        taskStatsService.tasksCreated(projectId, savedTasks.stream()
+                .collect(Collectors.groupingBy(t -> t.getAssignee().getId(), Collectors.counting())), Task.Status.TODO);
+        taskRepository.flush();
+        for (int i = 0; i < savedTasks.size(); i++) {
+            int index = taskIndexes.get(i);
+            TaskDTO dto = convertToDTO(savedTasks.get(i), assigner);
+            taskEventHub.publishAfterCommit(TaskEventDTO.created(projectId, dto));
+            results.set(index, BatchItemResult.success(index, dto));
+        }
+        return results;
+    }
+
+    // Bulk status change: one query loads every task with its users, updates are flushed as JDBC batches
+    public List<BatchItemResult<TaskDTO>> updateTaskStatuses(UUID projectId, UUID userId, List<TaskStatusUpdateDTO> items) {
+        logger.info("Updating status of {} tasks in project ID: {} by user ID: {}", items.size(), projectId, userId);
+        checkBatchSize(items);
+        Set<UUID> taskIds = items.stream()
+                .filter(Objects::nonNull)
+                .map(TaskStatusUpdateDTO::getTaskId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, Task> tasks = taskRepository.findWithUsersByIdIn(taskIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<BatchItemResult<TaskDTO>> results = new ArrayList<>(Collections.nCopies(items.size(), null));
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < items.size(); i++) {
+            TaskStatusUpdateDTO item = items.get(i);
+            if (item == null || item.getStatus() == null) {
+                results.set(i, BatchItemResult.error(i, "Task status cannot be empty"));
+                continue;
+            }
+            Task task = item.getTaskId() != null ? tasks.get(item.getTaskId()) : null;
+            if (task == null || !task.getProject().getId().equals(projectId)) {
+                results.set(i, BatchItemResult.error(i, "Task not found in this project: " + item.getTaskId()));
+                continue;
+            }
+            if (!userId.equals(task.getAssigner().getId())) {
+                results.set(i, BatchItemResult.error(i, "Only the assigner can update this task"));
+                continue;
+            }
+            if (item.getStatus() != task.getStatus()) {
+                taskStatsService.statusChanged(projectId, task.getAssignee().getId(), task.getStatus(), item.getStatus());
+                task.setStatus(item.getStatus());
+                statusHistoryRecorder.record(task.getId(), task.getStatus(), userId);
+            }
+            task.setUpdatedAt(now);
+            TaskDTO dto = convertToDTO(task, task.getAssigner());
+            taskEventHub.publishAfterCommit(TaskEventDTO.updated(projectId, dto));
+            results.set(i, BatchItemResult.success(i, dto));
+        }
+        taskRepository.flush();
+        return results;
+    }
+
+    private static void checkBatchSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one item");
+        }
+        if (items.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch cannot contain more than " + MAX_BATCH_SIZE + " items");
+        }
     }
 
-    public List<TaskDTO> getTasksByUserId(UUID userId, int page, int size) {
-        logger.info("Fetching tasks for user ID: " + userId + " (page=" + page + ", size=" + size + ")");
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Task> taskPage = taskRepository.findByAssigneeId(userId, pageable);
-        return taskPage.getContent().stream()
+    public Page<TaskDTO> getTasksByUserId(UUID projectId, UUID userId, TaskFilter filter, int page, int size) {
+        logger.debug("Fetching tasks for user ID: {} in project ID: {} (page={}, size={})", userId, projectId, page, size);
+        Pageable pageable = PageRequest.of(page, size, NEWEST_FIRST);
+        Page<Task> taskPage = taskRepository.findAll(TaskSpecifications.assignedInProject(projectId, userId, filter), pageable);
+        return taskPage.map(task -> convertToDTO(task, task.getAssigner()));
+    }
+
+    // Keyset variant of getTasksByUserId: fetches one extra row so the caller can tell whether another page exists
+    public List<TaskDTO> getTasksByUserIdAfter(UUID projectId, UUID userId, TaskFilter filter, TaskCursor cursor, int size) {
+        logger.debug("Fetching tasks for user ID: {} in project ID: {} after cursor (size={})", userId, projectId, size);
+        Specification<Task> spec = TaskSpecifications.assignedInProject(projectId, userId, filter);
+        if (cursor != null) {
+            spec = spec.and(TaskSpecifications.before(cursor));
+        }
+        // project() applies a fetch graph, so assignee and assigner are loaded in the same query
+        List<Task> tasks = taskRepository.findBy(spec, query -> query
+                .project("assignee", "assigner")
+                .sortBy(NEWEST_FIRST)
+                .limit(size + 1)
+                .all());
+        return tasks.stream()
                 .map(task -> convertToDTO(task, task.getAssigner()))
                 .collect(Collectors.toList());
     }
 
-    public long countTasksByUserId(UUID userId) {
-        logger.info("Counting tasks for user ID: " + userId);
-        return taskRepository.countByAssigneeId(userId);
+    public long countTasksByUserId(UUID projectId, UUID userId, TaskFilter filter) {
+        logger.debug("Counting tasks for user ID: {} in project ID: {}", userId, projectId);
+        return taskRepository.count(TaskSpecifications.assignedInProject(projectId, userId, filter));
+    }
+
+    // Validator lookups used for ETags; they read a few columns instead of the entity
+    @Transactional(readOnly = true)
+    public TaskRepository.TaskValidator getTaskValidator(UUID projectId, UUID id) {
+        return taskRepository.findValidator(id, projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found in this project"));
+    }
+
+    @Transactional(readOnly = true)
+    public long getProjectVersion(UUID projectId) {
+        return projectRepository.findVersionById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
     }
 
     public Task getTaskById(UUID id) {
-        logger.info("Fetching task with ID: " + id);
-        return taskRepository.findById(id)
+        logger.debug("Fetching task with ID: {}", id);
+        return taskRepository.findWithUsersById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
     }
 
     public Task updateTask(UUID id, Task taskDetails, UUID userId) {
-        logger.info("Updating task with ID: " + id + " by user ID: " + userId);
+        return updateTask(id, taskDetails, userId, null);
+    }
+
+    // expectedVersion comes from If-Match; null skips the precondition
+    public Task updateTask(UUID id, Task taskDetails, UUID userId, Long expectedVersion) {
+        logger.info("Updating task with ID: {} by user ID: {}", id, userId);
         Task task = getTaskById(id);
         if (!userId.equals(task.getAssigner().getId())) {
             throw new ResourceNotFoundException("Only the assigner can update this task");
         }
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new PreconditionFailedException("Task has been modified since version " + expectedVersion);
+        }
         if (taskDetails.getTitle() != null) task.setTitle(taskDetails.getTitle());
         if (taskDetails.getDescription() != null) task.setDescription(taskDetails.getDescription());
         if (taskDetails.getDueDate() != null) task.setDueDate(taskDetails.getDueDate());
-        if (taskDetails.getStatus() != null) task.setStatus(taskDetails.getStatus());
+        if (taskDetails.getStatus() != null && taskDetails.getStatus() != task.getStatus()) {
+            taskStatsService.statusChanged(task.getProject().getId(), task.getAssignee().getId(), task.getStatus(), taskDetails.getStatus());
+            task.setStatus(taskDetails.getStatus());
+            statusHistoryRecorder.record(task.getId(), task.getStatus(), userId);
+        }
         task.setUpdatedAt(LocalDateTime.now());
-        return taskRepository.save(task);
+        Task savedTask = taskRepository.save(task);
+        taskEventHub.publishAfterCommit(TaskEventDTO.updated(savedTask.getProject().getId(), convertToDTO(savedTask, savedTask.getAssigner())));
+        return savedTask;
+    }
+
+    // Partial update under a row lock; with @DynamicUpdate only the changed columns are written
+    public Task patchTask(UUID projectId, UUID id, TaskPatchDTO patch, UUID userId, Long expectedVersion) {
+        logger.info("Patching task with ID: {} by user ID: {}", id, userId);
+        Task task = taskRepository.findByIdForUpdate(id)
+                .filter(t -> t.getProject().getId().equals(projectId))
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found in this project"));
+        if (!userId.equals(task.getAssigner().getId())) {
+            throw new ResourceNotFoundException("Only the assigner can update this task");
+        }
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new PreconditionFailedException("Task has been modified since version " + expectedVersion);
+        }
+        if (patch.getTitle() != null) task.setTitle(patch.getTitle());
+        if (patch.getDescription() != null) task.setDescription(patch.getDescription());
+        if (patch.getDueDate() != null) task.setDueDate(patch.getDueDate());
+        if (patch.getStatus() != null && patch.getStatus() != task.getStatus()) {
+            taskStatsService.statusChanged(projectId, task.getAssignee().getId(), task.getStatus(), patch.getStatus());
+            task.setStatus(patch.getStatus());
+            statusHistoryRecorder.record(task.getId(), task.getStatus(), userId);
+        }
+        task.setUpdatedAt(LocalDateTime.now());
+        taskRepository.flush();
+        taskEventHub.publishAfterCommit(TaskEventDTO.updated(projectId, convertToDTO(task, task.getAssigner())));
+        return task;
+    }
+
+    // Status transitions of a task, newest first
+    @Transactional(readOnly = true)
+    public Page<TaskDTO.StatusHistory> getStatusHistory(UUID projectId, UUID taskId, int page, int size) {
+        logger.debug("Fetching status history for task ID: {} (page={}, size={})", taskId, page, size);
+        if (!taskRepository.existsByIdAndProjectId(taskId, projectId)) {
+            throw new ResourceNotFoundException("Task not found in this project");
+        }
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "timestamp"));
+        return statusHistoryRepository.findByTaskId(taskId, pageable).map(history -> {
+            TaskDTO.StatusHistory dto = new TaskDTO.StatusHistory();
+            dto.setTaskId(taskId);
+            dto.setStatus(history.getStatus());
+            dto.setUpdatedBy(history.getUpdatedBy());
+            dto.setTimestamp(history.getTimestamp());
+            return dto;
+        });
     }
 
     public void deleteTask(UUID id, UUID userId) {
-        logger.info("Deleting task with ID: " + id + " by user ID: " + userId);
+        logger.info("Deleting task with ID: {} by user ID: {}", id, userId);
         Task task = getTaskById(id);
         if (!userId.equals(task.getAssigner().getId())) {
             throw new ResourceNotFoundException("Only the assigner can delete this task");
         }
         taskRepository.delete(task);
+        taskStatsService.taskDeleted(task.getProject().getId(), task.getAssignee().getId(), task.getStatus());
+        taskEventHub.publishAfterCommit(TaskEventDTO.deleted(task.getProject().getId(), id));
     }
 
     public TaskDTO convertToDTO(Task task, User assigner) {
@@ -0,0 +1,135 @@
+package com.teamsync.service;
+
+import com.teamsync.dto.ProjectTaskStatsDTO;
+import com.teamsync.entity.ProjectTaskStats;
+import com.teamsync.entity.Task;
+import com.teamsync.exceptions.ResourceNotFoundException;
+import com.teamsync.repository.ProjectRepository;
+import com.teamsync.repository.ProjectTaskStatsRepository;
+import com.teamsync.repository.TaskRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Per-project task counters. TaskService applies deltas in the same transaction as each task
+// write; a periodic reconciliation rebuilds the table from tasks to correct any drift
+// (e.g. tasks removed through user deletion cascades).
+@Service
+@Transactional
+public class TaskStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskStatsService.class);
+    private final ProjectTaskStatsRepository statsRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+
+    @Autowired
+    public TaskStatsService(ProjectTaskStatsRepository statsRepository, TaskRepository taskRepository,
+                            ProjectRepository projectRepository) {
+        this.statsRepository = statsRepository;
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+    }
+
+    public void taskCreated(UUID projectId, UUID assigneeId, Task.Status status) {
+        adjust(projectId, assigneeId, status, 1);
+    }
+
+    public void taskDeleted(UUID projectId, UUID assigneeId, Task.Status status) {
+        adjust(projectId, assigneeId, status, -1);
+    }
+
+    public void statusChanged(UUID projectId, UUID assigneeId, Task.Status from, Task.Status to) {
+        if (from == to) {
+            return;
+        }
+        long[] deltas = new long[Task.Status.values().length];
+        deltas[from.ordinal()]--;
+        deltas[to.ordinal()]++;
+        apply(projectId, assigneeId, deltas);
+    }
+
+    // Add the same status delta for several tasks at once, one upsert per assignee
+    public void tasksCreated(UUID projectId, Map<UUID, Long> createdByAssignee, Task.Status status) {
+        createdByAssignee.forEach((assigneeId, count) -> adjust(projectId, assigneeId, status, count));
+    }
+
+    public void projectDeleted(UUID projectId) {
+        statsRepository.deleteByProjectIdInBulk(projectId);
+    }
+
+    @Transactional(readOnly = true)
+    public ProjectTaskStatsDTO getProjectStats(UUID projectId) {
+        logger.debug("Fetching task stats for project ID: {}", projectId);
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException("Project not found with id: " + projectId);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Map<UUID, Long> overdueByAssignee = new HashMap<>();
+        taskRepository.countOverdueByAssignee(projectId, now, Task.Status.DONE)
+                .forEach(row -> overdueByAssignee.put(row.getAssigneeId(), row.getCount()));
+
+        long[] totals = new long[Task.Status.values().length];
+        List<ProjectTaskStatsDTO.AssigneeStats> assignees = new ArrayList<>();
+        for (ProjectTaskStats row : statsRepository.findByProjectId(projectId)) {
+            long[] counts = {row.getTodoCount(), row.getInProgressCount(), row.getDoneCount()};
+            for (int i = 0; i < counts.length; i++) {
+                totals[i] += counts[i];
+            }
+            ProjectTaskStatsDTO.AssigneeStats stats = new ProjectTaskStatsDTO.AssigneeStats();
+            stats.setAssigneeId(row.getAssigneeId());
+            stats.setCounts(toMap(counts));
+            stats.setOverdue(overdueByAssignee.getOrDefault(row.getAssigneeId(), 0L));
+            assignees.add(stats);
+        }
+
+        ProjectTaskStatsDTO dto = new ProjectTaskStatsDTO();
+        dto.setProjectId(projectId);
+        dto.setCounts(toMap(totals));
+        dto.setOverdue(overdueByAssignee.values().stream().mapToLong(Long::longValue).sum());
+        dto.setAssignees(assignees);
+        dto.setAsOf(now);
+        return dto;
+    }
+
+    // Rebuild all counters from the tasks table; also runs once at startup to seed the table
+    @Scheduled(fixedDelayString = "${teamsync.task-stats.reconcile-interval-ms:900000}")
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        statsRepository.deleteAllInBulk();
+        int rows = statsRepository.rebuildFromTasks();
+        logger.info("Reconciled task stats: {} rows in {}ms", rows, (System.currentTimeMillis() - start));
+    }
+
+    private void adjust(UUID projectId, UUID assigneeId, Task.Status status, long delta) {
+        long[] deltas = new long[Task.Status.values().length];
+        deltas[status.ordinal()] = delta;
+        apply(projectId, assigneeId, deltas);
+    }
+
+    private void apply(UUID projectId, UUID assigneeId, long[] deltas) {
+        statsRepository.adjust(projectId, assigneeId,
+                deltas[Task.Status.TODO.ordinal()],
+                deltas[Task.Status.IN_PROGRESS.ordinal()],
+                deltas[Task.Status.DONE.ordinal()]);
+    }
+
+    private static Map<String, Long> toMap(long[] counts) {
+        Map<String, Long> map = new LinkedHashMap<>();
+        for (Task.Status status : Task.Status.values()) {
+            map.put(status.toString(), counts[status.ordinal()]);
+        }
+        return map;
+    }
+}
@@ -1,26 +1,48 @@
 package com.teamsync.service;
 
+import com.teamsync.dto.UserResponseDTO;
 import com.teamsync.entity.User;
+import com.teamsync.mapper.UserMapper;
 import com.teamsync.repository.UserRepository;
 import com.teamsync.exceptions.DuplicateEmailException;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.logging.Logger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 // Service layer for user-related business logic
 @Service
+@Timed("teamsync.service")
 public class UserService {
 
-    private static final Logger logger = Logger.getLogger(UserService.class.getName());
+    private static final Logger logger = LoggerFactory.getLogger(UserService.class);
     private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final RefreshTokenService refreshTokenService;
 
     @Autowired
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, EntityManager entityManager,
+                       RefreshTokenService refreshTokenService) {
         this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.refreshTokenService = refreshTokenService;
     }
 
     // Save a user with validation
@@ -40,40 +62,74 @@ public class UserService {
         if (user.getLastName() == null || user.getLastName().trim().isEmpty()) {
             throw new IllegalArgumentException("User last name cannot be empty");
         }
-        logger.info("Saving user: " + user.getEmail());
+        logger.info("Saving user: {}", user.getEmail());
         return userRepository.save(user);
     }
 
     // Retrieve a user by ID
     public Optional<User> getUserById(UUID id) {
-        logger.info("Retrieving user with ID: " + id);
+        logger.debug("Retrieving user with ID: {}", id);
         return userRepository.findById(id);
     }
 
-    // Retrieve a user by email
+    // Check that a user exists; served from the second-level cache when the user is cached
+    public boolean existsById(UUID id) {
+        return userRepository.findById(id).isPresent();
+    }
+
+    // Retrieve several users: cached ones come from the second-level cache, the rest in one query
+    @Transactional(readOnly = true)
+    public List<User> getUsersByIds(Collection<UUID> ids) {
+        logger.debug("Retrieving {} users by ID", ids.size());
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(User.class)
+                .multiLoad(List.copyOf(ids))
+                .stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    // Retrieve a user by email through the natural-id cache
+    @Transactional(readOnly = true)
     public Optional<User> getUserByEmail(String email) {
-        logger.info("Retrieving user with email: " + email);
-        return userRepository.findByEmail(email);
+        logger.debug("Retrieving user with email: {}", email);
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
     }
 
-    // Retrieve all users
-    public List<User> getAllUsers() {
-        logger.info("Retrieving all users");
-        try {
-            List<User> users = userRepository.findAll();
-            if (users.isEmpty()) {
-                logger.info("No users found");
-            }
-            return users;
-        } catch (Exception ex) {
-            logger.severe("Error retrieving users: " + ex.getMessage());
-            throw new RuntimeException("Failed to retrieve users", ex);
+    // Retrieve one page of users, ordered by email
+    public Page<UserResponseDTO> getUsers(int page, int size) {
+        logger.debug("Retrieving users (page={}, size={})", page, size);
+        Pageable pageable = PageRequest.of(page, size, Sort.by("email"));
+        return userRepository.findAll(pageable).map(UserMapper::toResponseDTO);
+    }
+
+    // Stream every user through the consumer; each entity is detached once mapped so the persistence context stays empty
+    @Transactional(readOnly = true)
+    public void streamUsers(Consumer<UserResponseDTO> consumer) {
+        logger.debug("Streaming all users");
+        try (Stream<User> users = userRepository.streamAll()) {
+            users.forEach(user -> {
+                consumer.accept(UserMapper.toResponseDTO(user));
+                entityManager.detach(user);
+            });
         }
     }
 
-    // Delete a user by ID
+    // Replace a password hash if it has not changed since it was read (used for rehash-on-login)
+    @Transactional
+    public void updatePasswordHash(UUID id, String expectedHash, String newHash) {
+        userRepository.findById(id)
+                .filter(user -> expectedHash.equals(user.getPassword()))
+                .ifPresent(user -> user.setPassword(newHash));
+    }
+
+    // Delete a user by ID, revoking their refresh tokens
+    @Transactional
     public void deleteUser(UUID id) {
-        logger.info("Deleting user with ID: " + id);
+        logger.info("Deleting user with ID: {}", id);
+        refreshTokenService.revokeAll(id);
         userRepository.deleteById(id);
     }
 }
\ No newline at end of file
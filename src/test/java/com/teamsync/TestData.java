@@ -0,0 +1,71 @@
+package com.teamsync;
+
+import com.teamsync.config.JwtUtil;
+import com.teamsync.dto.BatchItemResult;
+import com.teamsync.dto.TaskBatchCreateDTO;
+import com.teamsync.dto.TaskDTO;
+import com.teamsync.entity.Project;
+import com.teamsync.entity.User;
+import com.teamsync.service.TaskService;
+import com.teamsync.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Seeds users, projects and tasks through the services, with unique emails so tests can share a database
+@TestComponent
+public class TestData {
+
+    private final UserService userService;
+    private final TaskService taskService;
+    private final JwtUtil jwtUtil;
+
+    @Autowired
+    public TestData(UserService userService, TaskService taskService, JwtUtil jwtUtil) {
+        this.userService = userService;
+        this.taskService = taskService;
+        this.jwtUtil = jwtUtil;
+    }
+
+    public User user() {
+        User user = new User();
+        user.setEmail("user-" + UUID.randomUUID() + "@teamsync.test");
+        // Stored as-is; tests that log in go through /api/auth/register instead
+        user.setPassword("not-a-bcrypt-hash");
+        user.setFirstName("Test");
+        user.setLastName("User");
+        return userService.saveUser(user);
+    }
+
+    public String token(User user) {
+        return jwtUtil.generateToken(user.getId(), user.getEmail());
+    }
+
+    // A project administered by admin with member already invited
+    public Project project(User admin, User member) {
+        Project project = new Project();
+        project.setName("Project " + UUID.randomUUID());
+        project = taskService.createProject(admin.getId(), project);
+        taskService.inviteMember(project.getId(), admin.getId(), member.getId());
+        return project;
+    }
+
+    // TODO tasks from assigner to assignee, created in one batch
+    public List<TaskDTO> tasks(Project project, User assigner, User assignee, int count) {
+        List<TaskBatchCreateDTO> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            TaskBatchCreateDTO item = new TaskBatchCreateDTO();
+            item.setTitle("Task " + i);
+            item.setAssigneeId(assignee.getId());
+            items.add(item);
+        }
+        List<TaskDTO> tasks = new ArrayList<>(count);
+        for (BatchItemResult<TaskDTO> result : taskService.createTasks(assigner.getId(), project.getId(), items)) {
+            tasks.add(result.getData());
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,84 @@
+package com.teamsync.config;
+
+import com.teamsync.IntegrationTest;
+import com.teamsync.TestData;
+import com.teamsync.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// One request permit out of a pool of three: a second request is shed with a 503 while background
+// threads still get one of the reserved connections
+@ActiveProfiles("virtual-threads")
+@TestPropertySource(properties = {
+        "spring.datasource.hikari.maximum-pool-size=3",
+        "spring.datasource.hikari.minimum-idle=1",
+        "teamsync.db.max-concurrency=1",
+        "teamsync.db.acquire-timeout-ms=100"
+})
+class BoundedDataSourceTest extends IntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @AfterEach
+    void clearRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void requestBeyondTheBoundIsShedWhileBackgroundWorkProceeds() throws Exception {
+        assertThat(dataSource).isInstanceOf(BoundedDataSource.class);
+        User user = testData.user();
+        String token = testData.token(user);
+
+        Connection held = holdRequestConnection();
+        try {
+            mockMvc.perform(get("/api/users/" + user.getId()).header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+
+            try (Connection background = dataSource.getConnection()) {
+                assertThat(background.isValid(1)).isTrue();
+            }
+        } finally {
+            held.close();
+        }
+
+        mockMvc.perform(get("/api/users/" + user.getId()).header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    // Takes the only request permit, as a request thread would
+    private Connection holdRequestConnection() throws Exception {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        try {
+            Connection connection = dataSource.getConnection();
+            assertThat(((BoundedDataSource) dataSource).availablePermits()).isZero();
+            return connection;
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+}
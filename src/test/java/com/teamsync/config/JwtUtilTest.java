@@ -0,0 +1,67 @@
+package com.teamsync.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Cached verifications must not outlive the key that produced them
+class JwtUtilTest {
+
+    private static final String OLD_SECRET = "old-secret-old-secret-old-secret-old-secret-0123456789";
+    private static final String NEW_SECRET = "new-secret-new-secret-new-secret-new-secret-0123456789";
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", OLD_SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "kid", "old");
+        ReflectionTestUtils.setField(jwtUtil, "keysFile", "");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 3600L);
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaxSize", 100L);
+        ReflectionTestUtils.setField(jwtUtil, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+    }
+
+    @Test
+    void entryReinsertedAfterRotationIsRejected() {
+        String token = jwtUtil.generateToken(UUID.randomUUID(), "user@teamsync.test");
+        assertThat(jwtUtil.parseToken(token)).isPresent();
+        Cache<String, Object> cache = verifiedTokens();
+        Map<String, Object> verifiedBeforeRotation = Map.copyOf(cache.asMap());
+
+        jwtUtil.rotateKeys(Map.of("new", NEW_SECRET), "new");
+        // What a parse that started before the rotation puts back once invalidateAll has run
+        cache.putAll(verifiedBeforeRotation);
+
+        assertThat(jwtUtil.parseToken(token)).isEmpty();
+    }
+
+    @Test
+    void reusedKidWithNewSecretRejectsCachedToken() {
+        String token = jwtUtil.generateToken(UUID.randomUUID(), "user@teamsync.test");
+        assertThat(jwtUtil.parseToken(token)).isPresent();
+        Map<String, Object> verifiedBeforeRotation = Map.copyOf(verifiedTokens().asMap());
+
+        jwtUtil.rotateKeys(Map.of("old", NEW_SECRET), "old");
+        verifiedTokens().putAll(verifiedBeforeRotation);
+
+        assertThat(jwtUtil.parseToken(token)).isEmpty();
+        String reissued = jwtUtil.generateToken(UUID.randomUUID(), "user@teamsync.test");
+        assertThat(jwtUtil.parseToken(reissued)).isPresent();
+        assertThat(jwtUtil.parseToken(reissued)).isPresent();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cache<String, Object> verifiedTokens() {
+        return (Cache<String, Object>) ReflectionTestUtils.getField(jwtUtil, "verifiedTokens");
+    }
+}
@@ -0,0 +1,42 @@
+package com.teamsync.controller;
+
+import com.teamsync.IntegrationTest;
+import com.teamsync.TestData;
+import com.teamsync.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Streaming bodies finish on an ASYNC dispatch that JwtFilter does not see; the dispatch must still be allowed
+class AsyncDispatchSecurityTest extends IntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestData testData;
+
+    @Test
+    void ndjsonUserStreamCompletesOnAsyncDispatch() throws Exception {
+        User caller = testData.user();
+        MvcResult started = mockMvc.perform(get("/api/users")
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + testData.token(caller)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(body).contains(caller.getEmail());
+    }
+}
@@ -0,0 +1,92 @@
+package com.teamsync.controller;
+
+import com.teamsync.IntegrationTest;
+import com.teamsync.TestData;
+import com.teamsync.entity.Project;
+import com.teamsync.entity.Task;
+import com.teamsync.entity.User;
+import com.teamsync.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Membership writes go through targeted join-table queries, so their statement count (X-Query-Count from
+// the query-debug profile) must not grow with the number of members already in the project
+@ActiveProfiles("query-debug")
+class MembershipQueryCountTest extends IntegrationTest {
+
+    private static final int[] MEMBER_COUNTS = {1, 10, 100};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void statementCountIsIndependentOfMemberCount() throws Exception {
+        List<Integer> invites = new ArrayList<>();
+        List<Long> creates = new ArrayList<>();
+        List<Integer> removes = new ArrayList<>();
+        for (int memberCount : MEMBER_COUNTS) {
+            // Everything is seeded the same way at each size, so every request starts from the same cache state
+            User admin = testData.user();
+            List<User> members = new ArrayList<>(memberCount);
+            for (int i = 0; i < memberCount; i++) {
+                members.add(testData.user());
+            }
+            Project project = testData.project(admin, members.get(0));
+            for (User member : members.subList(1, memberCount)) {
+                taskService.inviteMember(project.getId(), admin.getId(), member.getId());
+            }
+            User invitee = testData.user();
+            String projectUrl = "/api/projects/" + project.getId();
+
+            invites.add(queryCount(post(projectUrl + "/invite/" + invitee.getId()), admin));
+            creates.add(createTaskStatements(project, admin, members.get(0)));
+            removes.add(queryCount(post(projectUrl + "/remove/" + members.get(memberCount - 1).getId()), admin));
+        }
+        assertThat(invites).as("invite statements for 1, 10 and 100 members").containsOnly(invites.get(0));
+        assertThat(creates).as("createTask statements for 1, 10 and 100 members").containsOnly(creates.get(0));
+        assertThat(removes).as("remove statements for 1, 10 and 100 members").containsOnly(removes.get(0));
+    }
+
+    // POST .../tasks/users/{assigneeId} cannot bind a Task body (Task.assigner has no managed side), so the
+    // service call is measured with Hibernate's statement counter instead of X-Query-Count
+    private long createTaskStatements(Project project, User assigner, User assignee) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Task task = new Task();
+        task.setTitle("Task");
+        long before = statistics.getPrepareStatementCount();
+        taskService.createTask(assigner.getId(), assignee.getId(), project.getId(), task);
+        return statistics.getPrepareStatementCount() - before;
+    }
+
+    private int queryCount(MockHttpServletRequestBuilder request, User admin) throws Exception {
+        String header = mockMvc.perform(request
+                        .with(user(admin.getEmail()).roles("ADMIN"))
+                        .requestAttr("userId", admin.getId()))
+                .andExpect(status().is2xxSuccessful())
+                .andReturn().getResponse().getHeader("X-Query-Count");
+        return Integer.parseInt(header);
+    }
+}
@@ -0,0 +1,124 @@
+package com.teamsync.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.teamsync.IntegrationTest;
+import com.teamsync.TestData;
+import com.teamsync.entity.User;
+import com.teamsync.service.RefreshTokenService;
+import com.teamsync.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Refresh tokens are single use, and logout-all and account deletion both go through RefreshTokenService.revokeAll
+class RefreshTokenRevocationTest extends IntegrationTest {
+
+    private static final int CONCURRENT_REFRESHES = 8;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void refreshIssuesNewPairAndSpendsTheOldToken() throws Exception {
+        User user = testData.user();
+        String refreshToken = refreshTokenService.issue(user.getId());
+
+        String body = refresh(refreshToken)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String accessToken = JsonPath.read(body, "$.data.token");
+        String rotated = JsonPath.read(body, "$.data.refreshToken");
+        assertThat(rotated).isNotEqualTo(refreshToken);
+        mockMvc.perform(get("/api/users/" + user.getId()).header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        refresh(refreshToken).andExpect(status().isUnauthorized());
+        refresh(rotated).andExpect(status().isOk());
+    }
+
+    @Test
+    void concurrentRefreshesOfOneTokenSucceedOnce() throws Exception {
+        User user = testData.user();
+        String refreshToken = refreshTokenService.issue(user.getId());
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REFRESHES);
+        try {
+            CyclicBarrier start = new CyclicBarrier(CONCURRENT_REFRESHES);
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REFRESHES; i++) {
+                results.add(executor.submit(() -> {
+                    start.await(5, TimeUnit.SECONDS);
+                    return refresh(refreshToken).andReturn().getResponse().getStatus();
+                }));
+            }
+            List<Integer> statuses = new ArrayList<>();
+            for (Future<Integer> result : results) {
+                statuses.add(result.get(30, TimeUnit.SECONDS));
+            }
+
+            assertThat(statuses).filteredOn(status -> status == HttpStatus.OK.value()).hasSize(1);
+            assertThat(statuses).filteredOn(status -> status == HttpStatus.UNAUTHORIZED.value())
+                    .hasSize(CONCURRENT_REFRESHES - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void logoutAllRevokesEveryRefreshToken() throws Exception {
+        User user = testData.user();
+        String laptop = refreshTokenService.issue(user.getId());
+        String phone = refreshTokenService.issue(user.getId());
+
+        mockMvc.perform(post("/api/auth/logout-all"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/auth/logout-all").header(HttpHeaders.AUTHORIZATION, "Bearer " + testData.token(user)))
+                .andExpect(status().isOk());
+
+        for (String refreshToken : new String[]{laptop, phone}) {
+            refresh(refreshToken).andExpect(status().isUnauthorized());
+        }
+    }
+
+    @Test
+    void deletingUserRevokesRefreshTokens() {
+        User user = testData.user();
+        String refreshToken = refreshTokenService.issue(user.getId());
+
+        userService.deleteUser(user.getId());
+
+        assertThat(refreshTokenService.consume(refreshToken)).isEmpty();
+    }
+
+    private ResultActions refresh(String refreshToken) throws Exception {
+        return mockMvc.perform(post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"" + refreshToken + "\"}"));
+    }
+}
@@ -0,0 +1,88 @@
+package com.teamsync.controller;
+
+import com.teamsync.IntegrationTest;
+import com.teamsync.TestData;
+import com.teamsync.dto.TaskDTO;
+import com.teamsync.entity.Project;
+import com.teamsync.entity.User;
+import com.teamsync.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class TaskETagTest extends IntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User admin;
+    private User member;
+    private Project project;
+    private List<TaskDTO> tasks;
+
+    @BeforeEach
+    void seed() {
+        admin = testData.user();
+        member = testData.user();
+        project = testData.project(admin, member);
+        tasks = testData.tasks(project, admin, member, 3);
+    }
+
+    @Test
+    void listETagCoversQueryParameters() throws Exception {
+        String listUrl = "/api/projects/" + project.getId() + "/tasks/users/" + member.getId();
+        String etag = mockMvc.perform(asMember(get(listUrl)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(asMember(get(listUrl)).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(asMember(get(listUrl).param("status", "DONE")).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        mockMvc.perform(asMember(get(listUrl).param("size", "2")).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        mockMvc.perform(asMember(get(listUrl).param("cursor", "")).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void taskAndListETagsCoverEmbeddedUsers() throws Exception {
+        String listUrl = "/api/projects/" + project.getId() + "/tasks/users/" + member.getId();
+        String taskUrl = "/api/projects/" + project.getId() + "/tasks/" + tasks.get(0).getId();
+        String listETag = mockMvc.perform(asMember(get(listUrl)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String taskETag = mockMvc.perform(asMember(get(taskUrl)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(asMember(get(taskUrl)).header(HttpHeaders.IF_NONE_MATCH, taskETag))
+                .andExpect(status().isNotModified());
+
+        User renamed = userRepository.findById(admin.getId()).orElseThrow();
+        renamed.setFirstName("Renamed");
+        userRepository.save(renamed);
+
+        mockMvc.perform(asMember(get(taskUrl)).header(HttpHeaders.IF_NONE_MATCH, taskETag))
+                .andExpect(status().isOk());
+        mockMvc.perform(asMember(get(listUrl)).header(HttpHeaders.IF_NONE_MATCH, listETag))
+                .andExpect(status().isOk());
+    }
+
+    // The project URL rules need a role that JwtFilter does not grant, so the caller is set up directly
+    private MockHttpServletRequestBuilder asMember(MockHttpServletRequestBuilder request) {
+        return request.with(user(member.getEmail()).roles("MEMBER")).requestAttr("userId", member.getId());
+    }
+}
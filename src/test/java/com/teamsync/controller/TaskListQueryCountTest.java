@@ -0,0 +1,58 @@
+package com.teamsync.controller;
+
+import com.teamsync.IntegrationTest;
+import com.teamsync.TestData;
+import com.teamsync.entity.Project;
+import com.teamsync.entity.User;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Guards against N+1 on the task list: the statement count (X-Query-Count from the query-debug
+// profile) must not grow with the number of tasks returned
+@ActiveProfiles("query-debug")
+class TaskListQueryCountTest extends IntegrationTest {
+
+    private static final int[] TASK_COUNTS = {1, 10, 100};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestData testData;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"page", "cursor"})
+    void statementCountIsIndependentOfTaskCount(String mode) throws Exception {
+        List<Integer> counts = new ArrayList<>();
+        for (int taskCount : TASK_COUNTS) {
+            // A fresh assigner and assignee per size, so every request starts from the same cache state
+            User admin = testData.user();
+            User member = testData.user();
+            Project project = testData.project(admin, member);
+            testData.tasks(project, admin, member, taskCount);
+
+            // The page is larger than every data set, so offset mode never needs its count query
+            String header = mockMvc.perform(get("/api/projects/" + project.getId() + "/tasks/users/" + member.getId())
+                            .param("size", "200")
+                            .param(mode, mode.equals("page") ? "0" : "")
+                            .with(user(member.getEmail()).roles("MEMBER"))
+                            .requestAttr("userId", member.getId()))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader("X-Query-Count");
+            counts.add(Integer.valueOf(header));
+        }
+        // One query loads the tasks with both users joined in
+        assertThat(counts).as("statements for 1, 10 and 100 tasks").containsExactly(1, 1, 1);
+    }
+}
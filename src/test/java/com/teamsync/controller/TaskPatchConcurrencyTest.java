@@ -0,0 +1,159 @@
+package com.teamsync.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.teamsync.IntegrationTest;
+import com.teamsync.TestData;
+import com.teamsync.dto.TaskDTO;
+import com.teamsync.entity.Project;
+import com.teamsync.entity.Task;
+import com.teamsync.entity.User;
+import com.teamsync.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+
+// Two PATCHes sent with the same If-Match: the row lock serializes them and the loser sees a stale version.
+// Many clients doing read-modify-write on one task: with If-Match and retry, no update is lost.
+class TaskPatchConcurrencyTest extends IntegrationTest {
+
+    private static final int ROUNDS = 10;
+    private static final int WRITERS = 8;
+    private static final int EDITS_PER_WRITER = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void concurrentPatchesWithSameVersionLetExactlyOneWin() throws Exception {
+        User admin = testData.user();
+        User member = testData.user();
+        Project project = testData.project(admin, member);
+        List<TaskDTO> tasks = testData.tasks(project, admin, member, ROUNDS);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (TaskDTO task : tasks) {
+                String taskUrl = "/api/projects/" + project.getId() + "/tasks/" + task.getId();
+                String etag = mockMvc.perform(asAssigner(get(taskUrl), admin))
+                        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+                long versionBefore = taskRepository.findById(task.getId()).orElseThrow().getVersion();
+
+                CyclicBarrier start = new CyclicBarrier(2);
+                List<Future<Integer>> results = new ArrayList<>();
+                for (int i = 0; i < 2; i++) {
+                    String title = "Patched by caller " + i;
+                    results.add(executor.submit(() -> {
+                        start.await(5, TimeUnit.SECONDS);
+                        return mockMvc.perform(asAssigner(patch(taskUrl), admin)
+                                        .header(HttpHeaders.IF_MATCH, etag)
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content("{\"title\":\"" + title + "\"}"))
+                                .andReturn().getResponse().getStatus();
+                    }));
+                }
+                List<Integer> statuses = new ArrayList<>();
+                for (Future<Integer> result : results) {
+                    statuses.add(result.get(30, TimeUnit.SECONDS));
+                }
+
+                assertThat(statuses).filteredOn(status -> status == HttpStatus.OK.value()).hasSize(1);
+                assertThat(statuses).filteredOn(status -> status == HttpStatus.PRECONDITION_FAILED.value()
+                        || status == HttpStatus.CONFLICT.value()).hasSize(1);
+                assertThat(taskRepository.findById(task.getId()).orElseThrow().getVersion()).isEqualTo(versionBefore + 1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentReadModifyWritesLoseNoUpdate() throws Exception {
+        User admin = testData.user();
+        User member = testData.user();
+        Project project = testData.project(admin, member);
+        TaskDTO task = testData.tasks(project, admin, member, 1).get(0);
+        String taskUrl = "/api/projects/" + project.getId() + "/tasks/" + task.getId();
+        long versionBefore = taskRepository.findById(task.getId()).orElseThrow().getVersion();
+
+        // Each writer appends its own markers to the description, re-reading and retrying on 412 or 409
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        try {
+            CyclicBarrier start = new CyclicBarrier(WRITERS);
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int writer = 0; writer < WRITERS; writer++) {
+                int id = writer;
+                results.add(executor.submit(() -> {
+                    start.await(5, TimeUnit.SECONDS);
+                    int successes = 0;
+                    for (int edit = 0; edit < EDITS_PER_WRITER; edit++) {
+                        while (!appendMarker(taskUrl, admin, "[" + id + "." + edit + "]")) {
+                            Thread.onSpinWait();
+                        }
+                        successes++;
+                    }
+                    return successes;
+                }));
+            }
+            int successes = 0;
+            for (Future<Integer> result : results) {
+                successes += result.get(60, TimeUnit.SECONDS);
+            }
+
+            Task stored = taskRepository.findById(task.getId()).orElseThrow();
+            for (int writer = 0; writer < WRITERS; writer++) {
+                for (int edit = 0; edit < EDITS_PER_WRITER; edit++) {
+                    assertThat(stored.getDescription()).containsOnlyOnce("[" + writer + "." + edit + "]");
+                }
+            }
+            assertThat(successes).isEqualTo(WRITERS * EDITS_PER_WRITER);
+            assertThat(stored.getVersion()).isEqualTo(versionBefore + successes);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // One read-modify-write attempt; false when another writer got there first
+    private boolean appendMarker(String taskUrl, User admin, String marker) throws Exception {
+        MockHttpServletResponse read = mockMvc.perform(asAssigner(get(taskUrl), admin)).andReturn().getResponse();
+        String description = JsonPath.read(read.getContentAsString(), "$.data.description");
+        int status = mockMvc.perform(asAssigner(patch(taskUrl), admin)
+                        .header(HttpHeaders.IF_MATCH, read.getHeader(HttpHeaders.ETAG))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"description\":\"" + (description == null ? "" : description) + marker + "\"}"))
+                .andReturn().getResponse().getStatus();
+        if (status == HttpStatus.PRECONDITION_FAILED.value() || status == HttpStatus.CONFLICT.value()) {
+            return false;
+        }
+        assertThat(status).isEqualTo(HttpStatus.OK.value());
+        return true;
+    }
+
+    // Only the assigner may patch; the project URL rules need a role JwtFilter does not grant
+    private MockHttpServletRequestBuilder asAssigner(MockHttpServletRequestBuilder request, User assigner) {
+        return request.with(user(assigner.getEmail()).roles("ADMIN")).requestAttr("userId", assigner.getId());
+    }
+}
@@ -0,0 +1,84 @@
+package com.teamsync.service;
+
+import com.teamsync.IntegrationTest;
+import com.teamsync.TestData;
+import com.teamsync.config.BoundedDataSource;
+import com.teamsync.dto.TaskDTO;
+import com.teamsync.entity.Project;
+import com.teamsync.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The caller-pays path under the request connection cap: the request holds the only permit while its
+// afterCommit writes history batches, so those writes must not wait for a second permit
+@ActiveProfiles("virtual-threads")
+@TestPropertySource(properties = {
+        "spring.datasource.hikari.maximum-pool-size=3",
+        "spring.datasource.hikari.minimum-idle=1",
+        "teamsync.db.max-concurrency=1",
+        "teamsync.db.acquire-timeout-ms=100",
+        "teamsync.status-history.queue-capacity=1",
+        "teamsync.status-history.batch-size=5"
+})
+class StatusHistoryBoundedDataSourceTest extends IntegrationTest {
+
+    private static final int TASKS = 200;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void fullQueueInsideARequestPersistsEveryTransition() throws Exception {
+        assertThat(dataSource).isInstanceOf(BoundedDataSource.class);
+        User admin = testData.user();
+        User member = testData.user();
+        Project project = testData.project(admin, member);
+        List<TaskDTO> tasks = testData.tasks(project, admin, member, TASKS);
+
+        String updates = tasks.stream()
+                .map(task -> "{\"taskId\":\"" + task.getId() + "\",\"status\":\"IN_PROGRESS\"}")
+                .collect(Collectors.joining(",", "[", "]"));
+        mockMvc.perform(patch("/api/projects/" + project.getId() + "/tasks/batch/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(updates)
+                        .with(user(admin.getEmail()).roles("ADMIN"))
+                        .requestAttr("userId", admin.getId()))
+                .andExpect(status().isOk());
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        int rows = countHistoryRows(admin);
+        while (rows < TASKS && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            rows = countHistoryRows(admin);
+        }
+        assertThat(rows).isEqualTo(TASKS);
+    }
+
+    private int countHistoryRows(User updatedBy) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM status_history WHERE updated_by = ?",
+                Integer.class, updatedBy.getId());
+    }
+}
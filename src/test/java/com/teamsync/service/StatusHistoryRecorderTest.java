@@ -0,0 +1,69 @@
+package com.teamsync.service;
+
+import com.teamsync.IntegrationTest;
+import com.teamsync.TestData;
+import com.teamsync.dto.BatchItemResult;
+import com.teamsync.dto.TaskDTO;
+import com.teamsync.dto.TaskStatusUpdateDTO;
+import com.teamsync.entity.Project;
+import com.teamsync.entity.Task;
+import com.teamsync.entity.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// A one-slot queue forces almost every transition through the caller-pays path in afterCommit
+@TestPropertySource(properties = {
+        "teamsync.status-history.queue-capacity=1",
+        "teamsync.status-history.batch-size=5"
+})
+class StatusHistoryRecorderTest extends IntegrationTest {
+
+    private static final int TASKS = 200;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void fullQueueStillPersistsEveryTransition() throws InterruptedException {
+        User admin = testData.user();
+        User member = testData.user();
+        Project project = testData.project(admin, member);
+        List<TaskDTO> tasks = testData.tasks(project, admin, member, TASKS);
+
+        List<TaskStatusUpdateDTO> updates = tasks.stream().map(task -> {
+            TaskStatusUpdateDTO update = new TaskStatusUpdateDTO();
+            update.setTaskId(task.getId());
+            update.setStatus(Task.Status.IN_PROGRESS);
+            return update;
+        }).collect(Collectors.toList());
+        List<BatchItemResult<TaskDTO>> results = taskService.updateTaskStatuses(project.getId(), admin.getId(), updates);
+        assertThat(results).allMatch(BatchItemResult::isSucceeded);
+
+        // The background writer owns at most the one queued change; give it a moment to land
+        long deadline = System.currentTimeMillis() + 10_000;
+        int rows = countHistoryRows(admin);
+        while (rows < TASKS && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            rows = countHistoryRows(admin);
+        }
+        assertThat(rows).isEqualTo(TASKS);
+    }
+
+    private int countHistoryRows(User updatedBy) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM status_history WHERE updated_by = ?",
+                Integer.class, updatedBy.getId());
+    }
+}
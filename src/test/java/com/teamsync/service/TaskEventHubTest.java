@@ -0,0 +1,142 @@
+package com.teamsync.service;
+
+import com.teamsync.dto.TaskEventDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+// A subscriber that never reads: its write blocks while holding the emitter's monitor, which is what a
+// full socket does to ResponseBodyEmitter.send. Nothing but the blocked dispatcher thread may wait on it.
+class TaskEventHubTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<StalledEmitter> emitters = new ArrayList<>();
+    private TaskEventHub hub;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        hub.shutdown();
+    }
+
+    @Test
+    void stalledWritesAreEvictedWithoutBlockingTheScheduler() throws Exception {
+        hub = hub(2, 4, 100);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        hub.subscribe(first);
+        hub.subscribe(second);
+
+        hub.publish(event(first));
+        hub.publish(event(second));
+        for (StalledEmitter emitter : emitters) {
+            assertThat(emitter.sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        // Both evictions run on the single scheduler thread; the first must not park it on the monitor
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!subscribers().isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(subscribers()).isEmpty();
+        assertThat(emitters).allSatisfy(emitter -> assertThat(emitter.completed.getCount()).isEqualTo(1));
+
+        release.countDown();
+        for (StalledEmitter emitter : emitters) {
+            assertThat(emitter.completed.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(emitter.error).isInstanceOf(IOException.class);
+            assertThat(emitter.completedBy).startsWith("task-events-").isNotEqualTo("task-events-heartbeat");
+        }
+    }
+
+    @Test
+    void overflowingPublisherReturnsWhileTheWriteIsStalled() throws Exception {
+        hub = hub(1, 1, 60_000);
+        UUID projectId = UUID.randomUUID();
+        hub.subscribe(projectId);
+        StalledEmitter emitter = emitters.get(0);
+
+        hub.publish(event(projectId));
+        assertThat(emitter.sendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        // One event fills the buffer, the next overflows it; neither may wait for the stalled write
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            hub.publish(event(projectId));
+            hub.publish(event(projectId));
+        });
+        assertThat(subscribers()).isEmpty();
+
+        release.countDown();
+        assertThat(emitter.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(emitter.error).isNull();
+        assertThat(emitter.completedBy).startsWith("task-events-");
+    }
+
+    private TaskEventHub hub(int dispatcherThreads, int bufferSize, long writeTimeoutMillis) {
+        return new TaskEventHub(dispatcherThreads, 60_000, bufferSize, 3_600_000, writeTimeoutMillis) {
+            @Override
+            SseEmitter createEmitter(long timeoutMillis) {
+                StalledEmitter emitter = new StalledEmitter(release);
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<UUID, ?> subscribers() {
+        return (Map<UUID, ?>) ReflectionTestUtils.getField(hub, "subscribers");
+    }
+
+    private static TaskEventDTO event(UUID projectId) {
+        return TaskEventDTO.deleted(projectId, UUID.randomUUID());
+    }
+
+    private static final class StalledEmitter extends SseEmitter {
+        private final CountDownLatch release;
+        private final CountDownLatch sendStarted = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile Throwable error;
+        private volatile String completedBy;
+
+        private StalledEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        // Same monitor as ResponseBodyEmitter.send(Set), held until the test releases it
+        @Override
+        public synchronized void send(SseEventBuilder builder) throws IOException {
+            sendStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public synchronized void complete() {
+            completedBy = Thread.currentThread().getName();
+            completed.countDown();
+        }
+
+        @Override
+        public synchronized void completeWithError(Throwable ex) {
+            error = ex;
+            complete();
+        }
+    }
+}
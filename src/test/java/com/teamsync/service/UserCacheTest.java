@@ -0,0 +1,67 @@
+package com.teamsync.service;
+
+import com.teamsync.IntegrationTest;
+import com.teamsync.TestData;
+import com.teamsync.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Repeated user lookups by id and by email are answered from the second-level and natural-id caches
+class UserCacheTest extends IntegrationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TestData testData;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = testData.user();
+    }
+
+    @Test
+    void repeatedLookupByIdHitsSecondLevelCache() {
+        // The first lookup may load and cache the user; only the repeat is measured
+        assertThat(userService.getUserById(user.getId())).isPresent();
+
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(User.CACHE_REGION);
+        long hits = region.getHitCount();
+        long statements = statistics.getPrepareStatementCount();
+
+        assertThat(userService.getUserById(user.getId())).get().extracting(User::getEmail).isEqualTo(user.getEmail());
+
+        assertThat(region.getHitCount()).isEqualTo(hits + 1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+    }
+
+    @Test
+    void repeatedLookupByEmailHitsNaturalIdCache() {
+        assertThat(userService.getUserByEmail(user.getEmail())).isPresent();
+
+        CacheRegionStatistics emailRegion = statistics.getDomainDataRegionStatistics(User.EMAIL_CACHE_REGION);
+        long naturalIdHits = emailRegion.getHitCount();
+        long entityHits = statistics.getDomainDataRegionStatistics(User.CACHE_REGION).getHitCount();
+        long statements = statistics.getPrepareStatementCount();
+
+        assertThat(userService.getUserByEmail(user.getEmail())).get().extracting(User::getId).isEqualTo(user.getId());
+
+        assertThat(emailRegion.getHitCount()).isEqualTo(naturalIdHits + 1);
+        assertThat(statistics.getDomainDataRegionStatistics(User.CACHE_REGION).getHitCount()).isEqualTo(entityHits + 1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+    }
+}